@@ -0,0 +1,100 @@
+package com.example.booksearch.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 블로킹 I/O 작업 실행기 비교 벤치마크 (가상 스레드 모드)
+ *
+ * I/O 대기를 흉내 낸 작업 requests건을 한꺼번에 넣고 모두 끝날 때까지의 시간을 잰다
+ * <ul>
+ *   <li>executor=platform - Tomcat 기본과 같은 200개 플랫폼 스레드 풀</li>
+ *   <li>executor=virtual - 작업마다 가상 스레드</li>
+ *   <li>wait=sleep - 캐리어를 반납하는 대기 (CompletableFuture, ReentrantLock, 소켓 I/O와 같음)</li>
+ *   <li>wait=monitor - synchronized 안의 wait() (RestClient 동기 호출의 응답 대기와 같음, 캐리어 고정)</li>
+ * </ul>
+ * virtual + monitor가 virtual + sleep보다 크게 느리면 pinning이 처리량을 캐리어 수로 묶고 있다는 뜻이다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BlockingExecutorBenchmark {
+
+    /** Tomcat 기본 최대 스레드 수 */
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    /** 작업 1건의 I/O 대기 시간 */
+    private static final long IO_WAIT_MILLIS = 5;
+
+    @Param({"platform", "virtual"})
+    public String executor;
+
+    @Param({"sleep", "monitor"})
+    public String wait;
+
+    /** 동시에 들어오는 요청 수 */
+    @Param({"1000"})
+    public int requests;
+
+    private ExecutorService executorService;
+
+    @Setup
+    public void setUp() {
+        executorService = "virtual".equals(executor)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Benchmark
+    public int blockingRequests() throws Exception {
+        boolean monitor = "monitor".equals(wait);
+        List<Future<Integer>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            int n = i;
+            futures.add(executorService.submit(() -> {
+                if (monitor) {
+                    waitOnMonitor();
+                } else {
+                    Thread.sleep(IO_WAIT_MILLIS);
+                }
+                return n;
+            }));
+        }
+
+        int sum = 0;
+        for (Future<Integer> future : futures) {
+            sum += future.get();
+        }
+        return sum;
+    }
+
+    private static void waitOnMonitor() throws InterruptedException {
+        Object lock = new Object();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(IO_WAIT_MILLIS);
+        synchronized (lock) {
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                lock.wait(Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining)));
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.booksearch.benchmark;
+
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.dto.BookRequestDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 도서 데이터 (data/books.json 기반)
+ */
+final class BookFixtures {
+
+    /** 초기 데이터 파일 경로 (DataInitializer와 동일) */
+    static final String BOOKS_JSON = "data/books.json";
+
+    private BookFixtures() {
+    }
+
+    /**
+     * data/books.json 원본 바이트 로딩
+     */
+    static byte[] booksJson() {
+        try (InputStream is = new ClassPathResource(BOOKS_JSON).getInputStream()) {
+            return is.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * DataInitializer와 같은 설정의 ObjectMapper
+     */
+    static ObjectMapper objectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        return mapper;
+    }
+
+    /**
+     * 샘플 도서를 반복하여 count건의 도서 엔티티 생성 (ID는 1부터 순서대로 부여)
+     *
+     * @param count 생성할 도서 수
+     * @return 도서 엔티티 목록
+     */
+    static List<Book> books(int count) {
+        List<BookRequestDto> samples;
+        try {
+            samples = objectMapper().readValue(booksJson(), new TypeReference<>() {});
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<Book> books = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            BookRequestDto sample = samples.get(i % samples.size());
+            Book book = Book.builder()
+                    .title(sample.getTitle())
+                    .author(sample.getAuthor())
+                    .publisher(sample.getPublisher())
+                    .description(sample.getDescription())
+                    .isbn(sample.getIsbn())
+                    .price(sample.getPrice())
+                    .publishedDate(sample.getPublishedDate())
+                    .category(sample.getCategory())
+                    .stockQuantity(sample.getStockQuantity())
+                    .coverImageUrl(sample.getCoverImageUrl())
+                    .build();
+            setId(book, i + 1L);
+            books.add(book);
+        }
+        return books;
+    }
+
+    /**
+     * 영속화 없이 ID 부여 (ID는 DB 생성 값이라 setter가 없음)
+     */
+    private static void setId(Book book, Long id) {
+        try {
+            Field field = Book.class.getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(book, id);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
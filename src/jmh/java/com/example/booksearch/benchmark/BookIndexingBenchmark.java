@@ -0,0 +1,130 @@
+package com.example.booksearch.benchmark;
+
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.domain.BookDocument;
+import jakarta.json.stream.JsonGenerator;
+import org.opensearch.client.json.NdJsonpSerializable;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 벌크 인덱싱 경로 벤치마크 (BookBulkIndexer)
+ *
+ * 도서 batchSize건 기준으로 단계별 비용을 측정한다
+ * <ul>
+ *   <li>documentFrom - Book → BookDocument 변환 (BookDocument.from)</li>
+ *   <li>bulkOperations - BookBulkIndexer.Session.index와 같은 처리:
+ *       Spring Data 컨버터로 Document 변환, 크기 추정용 JSON 직렬화, BulkOperation 생성</li>
+ *   <li>bulkRequestSerialization - 완성된 BulkRequest를 전송 형식(NDJSON)으로 직렬화
+ *       (RestClientTransport와 같은 방식)</li>
+ * </ul>
+ *
+ * 실행: ./gradlew jmh (gc 프로파일러로 op당 할당량 gc.alloc.rate.norm 함께 출력)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookIndexingBenchmark {
+
+    private static final String INDEX_NAME = "books_v1";
+
+    /** 벌크 요청 1건에 담는 도서 수 */
+    @Param({"100", "1000"})
+    public int batchSize;
+
+    private final JacksonJsonpMapper mapper = new JacksonJsonpMapper();
+    private MappingElasticsearchConverter converter;
+
+    private List<Book> books;
+    private List<BookDocument> documents;
+    private BulkRequest bulkRequest;
+
+    /** 크기 추정 결과 (추정용 직렬화가 제거되지 않도록 보관) */
+    private long estimatedBytes;
+
+    @Setup
+    public void setUp() {
+        converter = new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext());
+        converter.afterPropertiesSet();
+
+        books = BookFixtures.books(batchSize);
+        documents = books.stream().map(BookDocument::from).toList();
+        List<BulkOperation> operations = toBulkOperations(documents);
+        bulkRequest = BulkRequest.of(r -> r.operations(operations));
+        System.out.printf("%n[batchSize=%d] bulk request bytes=%d%n", batchSize, serialize(bulkRequest).length);
+    }
+
+    @Benchmark
+    public void documentFrom(Blackhole blackhole) {
+        for (Book book : books) {
+            blackhole.consume(BookDocument.from(book));
+        }
+    }
+
+    @Benchmark
+    public List<BulkOperation> bulkOperations() {
+        return toBulkOperations(documents);
+    }
+
+    @Benchmark
+    public byte[] bulkRequestSerialization() {
+        return serialize(bulkRequest);
+    }
+
+    private List<BulkOperation> toBulkOperations(List<BookDocument> documents) {
+        List<BulkOperation> operations = new ArrayList<>(documents.size());
+        long totalBytes = 0;
+        for (BookDocument document : documents) {
+            String id = String.valueOf(document.getId());
+            Document source = converter.mapObject(document);
+            Map<String, Object> body = new LinkedHashMap<>(source);
+            totalBytes += source.toJson().getBytes(StandardCharsets.UTF_8).length;
+            operations.add(BulkOperation.of(b -> b.index(i -> i.index(INDEX_NAME).id(id).document(body))));
+        }
+        estimatedBytes = totalBytes;
+        return operations;
+    }
+
+    private byte[] serialize(BulkRequest request) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        writeNdJson(request, out);
+        return out.toByteArray();
+    }
+
+    private void writeNdJson(NdJsonpSerializable value, ByteArrayOutputStream out) {
+        Iterator<?> values = value._serializables();
+        while (values.hasNext()) {
+            Object item = values.next();
+            if (item instanceof NdJsonpSerializable nested && item != value) {
+                writeNdJson(nested, out);
+            } else {
+                JsonGenerator generator = mapper.jsonProvider().createGenerator(out);
+                mapper.serialize(item, generator);
+                generator.close();
+                out.write('\n');
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.booksearch.benchmark;
+
+import com.example.booksearch.dto.BookRequestDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초기 데이터 JSON 로딩 벤치마크 (DataInitializer)
+ *
+ * data/books.json 배열을 copies번 이어 붙인 입력을 List&lt;BookRequestDto&gt;로 역직렬화한다
+ * <ul>
+ *   <li>readWithNewMapper - DataInitializer와 같이 호출마다 ObjectMapper 생성</li>
+ *   <li>readWithSharedMapper - 미리 만든 ObjectMapper 재사용 (역직렬화 비용만 측정)</li>
+ * </ul>
+ *
+ * 실행: ./gradlew jmh (gc 프로파일러로 op당 할당량 gc.alloc.rate.norm 함께 출력)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookJsonLoadBenchmark {
+
+    private static final TypeReference<List<BookRequestDto>> BOOK_LIST_TYPE = new TypeReference<>() {};
+
+    /** books.json 반복 횟수 (1이면 원본 그대로) */
+    @Param({"1", "50"})
+    public int copies;
+
+    private final ObjectMapper sharedMapper = BookFixtures.objectMapper();
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        String original = new String(BookFixtures.booksJson(), StandardCharsets.UTF_8).strip();
+        String elements = original.substring(1, original.length() - 1).strip();
+
+        StringBuilder builder = new StringBuilder(original.length() * copies + 2).append('[');
+        for (int i = 0; i < copies; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(elements);
+        }
+        json = builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<BookRequestDto> readWithNewMapper() throws IOException {
+        return BookFixtures.objectMapper().readValue(json, BOOK_LIST_TYPE);
+    }
+
+    @Benchmark
+    public List<BookRequestDto> readWithSharedMapper() throws IOException {
+        return sharedMapper.readValue(json, BOOK_LIST_TYPE);
+    }
+}
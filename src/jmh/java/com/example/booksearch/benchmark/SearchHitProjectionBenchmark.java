@@ -0,0 +1,143 @@
+package com.example.booksearch.benchmark;
+
+import com.example.booksearch.domain.BookDocument;
+import com.example.booksearch.dto.BookSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.json.stream.JsonParser;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 응답 projection 비교 벤치마크
+ *
+ * description이 긴 도서 hit 목록에 대해 다음 두 경로의 응답 역직렬화 + 변환 비용을 비교한다
+ * <ul>
+ *   <li>fullDocument - 전체 _source 응답 → BookDocument (Spring Data 컨버터)</li>
+ *   <li>summaryProjection - BookSummary 필드만 포함한 _source 응답 → BookSummary</li>
+ * </ul>
+ *
+ * 응답 크기(바이트)는 Setup 단계에서 출력한다
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchHitProjectionBenchmark {
+
+    @SuppressWarnings("unchecked")
+    private static final Class<Map<String, Object>> SOURCE_TYPE = (Class<Map<String, Object>>) (Class<?>) Map.class;
+
+    /** 한 페이지 hit 수 */
+    @Param({"20", "100"})
+    public int hits;
+
+    /** description 길이 (문자 수) */
+    @Param({"2000"})
+    public int descriptionLength;
+
+    private final JacksonJsonpMapper mapper = new JacksonJsonpMapper();
+    private final JsonpDeserializer<SearchResponse<Map<String, Object>>> deserializer =
+            SearchResponse.createSearchResponseDeserializer(JsonpDeserializer.of(SOURCE_TYPE));
+    private MappingElasticsearchConverter converter;
+
+    private String fullResponse;
+    private String summaryResponse;
+
+    @Setup
+    public void setUp() throws Exception {
+        converter = new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext());
+        converter.afterPropertiesSet();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        String description = "자바 스프링 검색 엔진 도서 소개 ".repeat(descriptionLength / 16 + 1).substring(0, descriptionLength);
+
+        List<Map<String, Object>> fullHits = new ArrayList<>();
+        List<Map<String, Object>> summaryHits = new ArrayList<>();
+        for (int i = 1; i <= hits; i++) {
+            Map<String, Object> source = new LinkedHashMap<>();
+            source.put("title", "도서 " + i);
+            source.put("author", "저자 " + i);
+            source.put("publisher", "출판사 " + (i % 10));
+            source.put("category", "IT");
+            source.put("price", 10000 + i * 100);
+            Map<String, Object> summary = new LinkedHashMap<>(source);
+
+            source.put("id", i);
+            source.put("description", description);
+            source.put("isbn", "978-89-" + String.format("%07d", i));
+            source.put("publishedDate", "2024-01-15");
+            source.put("stockQuantity", 10);
+            source.put("coverImageUrl", "https://example.com/covers/" + i + ".jpg");
+            source.put("createdAt", "2024-01-15T10:00:00");
+            source.put("updatedAt", "2024-01-15T10:00:00");
+
+            fullHits.add(hit(i, source));
+            summaryHits.add(hit(i, summary));
+        }
+
+        fullResponse = objectMapper.writeValueAsString(response(fullHits));
+        summaryResponse = objectMapper.writeValueAsString(response(summaryHits));
+        System.out.printf("%n응답 크기: full=%d bytes, summary=%d bytes%n",
+                fullResponse.getBytes(StandardCharsets.UTF_8).length,
+                summaryResponse.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Benchmark
+    public List<BookDocument> fullDocument() {
+        return parse(fullResponse).hits().hits().stream()
+                .map(hit -> {
+                    Document document = Document.from(hit.source());
+                    document.setId(hit.id());
+                    return converter.read(BookDocument.class, document);
+                })
+                .toList();
+    }
+
+    @Benchmark
+    public List<BookSummary> summaryProjection() {
+        return parse(summaryResponse).hits().hits().stream()
+                .map(hit -> BookSummary.from(hit.id(), hit.source()))
+                .toList();
+    }
+
+    private SearchResponse<Map<String, Object>> parse(String json) {
+        try (JsonParser parser = mapper.jsonProvider().createParser(new StringReader(json))) {
+            return deserializer.deserialize(parser, mapper);
+        }
+    }
+
+    private static Map<String, Object> hit(int id, Map<String, Object> source) {
+        return Map.of("_index", "books_v1", "_id", String.valueOf(id), "_score", 1.0, "_source", source);
+    }
+
+    private static Map<String, Object> response(List<Map<String, Object>> hits) {
+        return Map.of(
+                "took", 1,
+                "timed_out", false,
+                "_shards", Map.of("total", 1, "successful", 1, "skipped", 0, "failed", 0),
+                "hits", Map.of(
+                        "total", Map.of("value", hits.size(), "relation", "eq"),
+                        "max_score", 1.0,
+                        "hits", hits));
+    }
+}
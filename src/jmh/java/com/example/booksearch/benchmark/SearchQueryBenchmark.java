@@ -0,0 +1,99 @@
+package com.example.booksearch.benchmark;
+
+import com.example.booksearch.dto.BookSearchCondition;
+import com.example.booksearch.service.BookSearchQueries;
+import com.example.booksearch.service.TotalHitsPolicy;
+import jakarta.json.stream.JsonGenerator;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch._types.query_dsl.Query;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 쿼리 생성 경로 비교 벤치마크
+ *
+ * <ul>
+ *   <li>legacyStringFormat - 기존 방식: String.format으로 JSON 문자열 생성 후
+ *       StringQuery가 변환되는 wrapper 쿼리(Base64)로 감싸 요청 직렬화</li>
+ *   <li>typedQueryDsl - BookSearchQueries의 타입 기반 DSL로 커서 검색 첫 페이지 요청(search_after) 생성 후 직렬화</li>
+ *   <li>facetedSearch - 필터 + 패싯 집계를 포함한 검색 요청 생성 후 직렬화 (/api/books/search)</li>
+ * </ul>
+ *
+ * 두 경로 모두 클라이언트 측 요청 직렬화까지 측정한다
+ * 기존 방식은 여기에 더해 OpenSearch 노드에서 wrapper 쿼리를 디코딩/파싱하는 비용이 추가된다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SearchQueryBenchmark {
+
+    @Param({"자바", "스프링 부트 \"실전\" 가이드\\"})
+    public String keyword;
+
+    private final JacksonJsonpMapper mapper = new JacksonJsonpMapper();
+    private final PageRequest pageable = PageRequest.of(0, 10);
+    private final BookSearchCondition condition = new BookSearchCondition();
+
+    @Setup
+    public void setUp() {
+        condition.setKeyword(keyword);
+        condition.setCategory("프로그래밍");
+        condition.setMinPrice(10000);
+        condition.setMaxPrice(50000);
+        condition.setPublishedFrom(LocalDate.of(2020, 1, 1));
+    }
+
+    @Benchmark
+    public String legacyStringFormat() {
+        String queryString = String.format("""
+                {
+                  "multi_match": {
+                    "query": "%s",
+                    "fields": ["title^3", "author^2", "description"],
+                    "type": "best_fields"
+                  }
+                }
+                """, keyword.replace("\"", "\\\""));
+        String encoded = Base64.getEncoder().encodeToString(queryString.getBytes(StandardCharsets.UTF_8));
+
+        SearchRequest request = SearchRequest.of(s -> s
+                .index("books")
+                .query(Query.of(q -> q.wrapper(w -> w.query(encoded))))
+                .from((int) pageable.getOffset())
+                .size(pageable.getPageSize()));
+        return serialize(request);
+    }
+
+    @Benchmark
+    public String typedQueryDsl() {
+        return serialize(BookSearchQueries.keywordSearchAfter("books", null, null, keyword, null,
+                pageable.getPageSize(), TotalHitsPolicy.EXACT, null, null));
+    }
+
+    @Benchmark
+    public String facetedSearch() {
+        return serialize(BookSearchQueries.facetedSearch("books", condition, pageable, TotalHitsPolicy.EXACT));
+    }
+
+    private String serialize(SearchRequest request) {
+        StringWriter writer = new StringWriter(256);
+        try (JsonGenerator generator = mapper.jsonProvider().createGenerator(writer)) {
+            request.serialize(generator, mapper);
+        }
+        return writer.toString();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.booksearch.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.*)
+ *
+ * @param baseUrl          대상 애플리케이션 주소
+ * @param catalogue        합성 도서 생성에 쓰는 원본 데이터 (books.json)
+ * @param seedBooks        측정 전 등록할 합성 도서 수
+ * @param seedConcurrency  초기 등록 동시 요청 수
+ * @param warmup           워밍업 시간 (지표에서 제외)
+ * @param duration         측정 시간
+ * @param searchRate       초당 검색 요청 수 (/admin/books?keyword=)
+ * @param createRate       초당 등록 요청 수
+ * @param updateRate       초당 수정 요청 수
+ * @param pageSize         검색 페이지 크기
+ * @param maxConcurrency   동시에 처리하는 최대 요청 수 (초과분은 대기하며 대기 시간도 지연에 포함)
+ * @param indexTimeout     초기 등록분이 검색 인덱스에 반영되기까지 기다리는 최대 시간
+ * @param randomSeed       합성 데이터/키워드 선택 시드
+ * @param reportDir        지연 분포(.hgrm) 출력 디렉토리
+ */
+record LoadTestOptions(
+        URI baseUrl,
+        Path catalogue,
+        int seedBooks,
+        int seedConcurrency,
+        Duration warmup,
+        Duration duration,
+        double searchRate,
+        double createRate,
+        double updateRate,
+        int pageSize,
+        int maxConcurrency,
+        Duration indexTimeout,
+        long randomSeed,
+        Path reportDir
+) {
+
+    private static final String PREFIX = "loadtest.";
+
+    /**
+     * 시스템 프로퍼티에서 설정 로딩 (없으면 기본값)
+     */
+    static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                URI.create(property("base-url", "http://localhost:8080")),
+                Path.of(property("catalogue", "src/main/resources/data/books.json")),
+                Integer.parseInt(property("seed-books", "2000")),
+                Integer.parseInt(property("seed-concurrency", "16")),
+                Duration.parse(property("warmup", "PT10S")),
+                Duration.parse(property("duration", "PT60S")),
+                Double.parseDouble(property("search-rate", "100")),
+                Double.parseDouble(property("create-rate", "5")),
+                Double.parseDouble(property("update-rate", "5")),
+                Integer.parseInt(property("page-size", "10")),
+                Integer.parseInt(property("max-concurrency", "200")),
+                Duration.parse(property("index-timeout", "PT2M")),
+                Long.parseLong(property("random-seed", "42")),
+                Path.of(property("report-dir", "build/loadtest"))
+        );
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+}
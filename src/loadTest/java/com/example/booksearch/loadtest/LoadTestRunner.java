@@ -0,0 +1,271 @@
+package com.example.booksearch.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 엔드투엔드 부하 테스트 실행기
+ *
+ * 실행 중인 애플리케이션(loadtest 프로필 권장)에 HTTP로 부하를 건다
+ * <ol>
+ *   <li>초기 적재 - 합성 도서 seedBooks건을 관리자 등록 폼으로 등록하고,
+ *       OpenSearch 건수(/api/books/count)에 모두 반영될 때까지의 인덱싱 처리량 측정</li>
+ *   <li>혼합 부하 - 검색(/admin/books?keyword=), 등록, 수정을 각각 고정 비율로 동시에 발생</li>
+ *   <li>보고 - 요청 종류별 p50/p99/p999/max 지연과 처리량 출력, 전체 분포는 report-dir에 .hgrm으로 저장</li>
+ * </ol>
+ * 설정은 LoadTestOptions 참고 (./gradlew loadTest -Dloadtest.search-rate=200 ...)
+ */
+public final class LoadTestRunner {
+
+    /** 수정 요청에 쓰는 합성 도서 순번 시작값 (등록 요청과 ISBN이 겹치지 않도록 분리) */
+    private static final long UPDATE_SEQUENCE_OFFSET = 5_000_000L;
+
+    /** 수정 대상으로 모으는 최대 도서 수 */
+    private static final int MAX_UPDATE_TARGETS = 10_000;
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestOptions options;
+    private final SyntheticCatalogue catalogue;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+
+    private LoadTestRunner(LoadTestOptions options, SyntheticCatalogue catalogue) {
+        this.options = options;
+        this.catalogue = catalogue;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        SyntheticCatalogue catalogue = SyntheticCatalogue.load(options.catalogue(), options.randomSeed());
+        System.out.println("부하 테스트 설정: " + options);
+        new LoadTestRunner(options, catalogue).run();
+    }
+
+    private void run() throws Exception {
+        long initialCount = indexedCount();
+        long seedStart = System.nanoTime();
+        long seeded = seed();
+        awaitIndexed(initialCount + seeded, seeded, seedStart);
+
+        List<Long> updateTargets = bookIds();
+        if (updateTargets.isEmpty() && options.updateRate() > 0) {
+            throw new IllegalStateException("수정할 도서가 없습니다. seed-books를 늘리거나 update-rate=0으로 실행하세요.");
+        }
+        runMixed(updateTargets);
+    }
+
+    // ── 초기 적재 ──────────────────────────────────────────────
+
+    /**
+     * 합성 도서를 seedConcurrency개 동시 요청으로 등록
+     *
+     * @return 등록에 성공한 도서 수
+     */
+    private long seed() throws InterruptedException {
+        if (options.seedBooks() <= 0) {
+            return 0;
+        }
+        OperationStats stats = new OperationStats("seed");
+        ExecutorService executor = Executors.newFixedThreadPool(options.seedConcurrency());
+        long start = System.nanoTime();
+        for (int i = 0; i < options.seedBooks(); i++) {
+            long sequence = i;
+            executor.execute(() -> {
+                long requestStart = System.nanoTime();
+                if (submitForm("/admin/books", catalogue.book(sequence))) {
+                    stats.recordSuccess(requestStart);
+                } else {
+                    stats.recordError();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+
+        OperationStats.Result result = stats.result(System.nanoTime() - start);
+        System.out.println();
+        System.out.println("== 초기 적재 (DB 등록) ==");
+        result.print(System.out);
+        return result.histogram().getTotalCount();
+    }
+
+    /**
+     * 검색 인덱스 건수가 expected에 도달할 때까지 대기하고 등록~인덱스 반영 처리량 출력
+     *
+     * @param expected  기대 인덱스 건수
+     * @param seeded    초기 적재로 등록한 도서 수
+     * @param seedStart 초기 적재 시작 시각 (System.nanoTime 기준)
+     */
+    private void awaitIndexed(long expected, long seeded, long seedStart) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + options.indexTimeout().toNanos();
+        long count = indexedCount();
+        while (count < expected && System.nanoTime() < deadline) {
+            Thread.sleep(200);
+            count = indexedCount();
+        }
+        double seconds = (System.nanoTime() - seedStart) / 1_000_000_000.0;
+        if (count < expected) {
+            System.out.printf("인덱스 반영 대기 시간 초과: %d / %d건 (%.1fs)%n", count, expected, seconds);
+        } else {
+            System.out.printf("인덱스 반영 완료: %d건, 등록~반영 %.1fs (%.1f docs/s)%n",
+                    count, seconds, seeded / seconds);
+        }
+    }
+
+    // ── 혼합 부하 ──────────────────────────────────────────────
+
+    private void runMixed(List<Long> updateTargets) throws Exception {
+        OperationStats search = new OperationStats("search");
+        OperationStats create = new OperationStats("create");
+        OperationStats update = new OperationStats("update");
+        AtomicLong createSequence = new AtomicLong(options.seedBooks());
+
+        ExecutorService executor = Executors.newFixedThreadPool(options.maxConcurrency());
+        RateDriver driver = new RateDriver(executor);
+        long measureStart = System.nanoTime() + options.warmup().toNanos();
+        long deadline = measureStart + options.duration().toNanos();
+
+        List<Thread> pacers = List.of(
+                driver.start("search-pacer", options.searchRate(), deadline, (n, intendedStart) ->
+                        record(search, intendedStart, get("/admin/books?size=" + options.pageSize()
+                                + "&keyword=" + encode(catalogue.keyword(n))))),
+                driver.start("create-pacer", options.createRate(), deadline, (n, intendedStart) ->
+                        record(create, intendedStart,
+                                submitForm("/admin/books", catalogue.book(createSequence.getAndIncrement())))),
+                driver.start("update-pacer", options.updateRate(), deadline, (n, intendedStart) ->
+                        record(update, intendedStart,
+                                submitForm("/admin/books/" + updateTargets.get((int) (n % updateTargets.size())),
+                                        catalogue.book(UPDATE_SEQUENCE_OFFSET + n))))
+        );
+
+        System.out.printf("%n워밍업 %ds 후 %ds 측정...%n",
+                options.warmup().toSeconds(), options.duration().toSeconds());
+        Thread.sleep(Math.max(0, TimeUnit.NANOSECONDS.toMillis(measureStart - System.nanoTime())));
+        List<OperationStats> all = List.of(search, create, update);
+        all.forEach(OperationStats::reset);
+
+        for (Thread pacer : pacers) {
+            pacer.join();
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(REQUEST_TIMEOUT.toSeconds() * 2, TimeUnit.SECONDS)) {
+            System.out.println("완료되지 않은 요청이 남아 있어 강제 종료합니다.");
+            executor.shutdownNow();
+        }
+        long elapsed = System.nanoTime() - measureStart;
+
+        System.out.println();
+        System.out.println("== 혼합 부하 (지연: 예정 시작 시각 기준) ==");
+        for (OperationStats stats : all) {
+            OperationStats.Result result = stats.result(elapsed);
+            result.print(System.out);
+            result.write(options.reportDir());
+        }
+        System.out.println("지연 분포 저장: " + options.reportDir().toAbsolutePath());
+    }
+
+    private static void record(OperationStats stats, long intendedStart, boolean success) {
+        if (success) {
+            stats.recordSuccess(intendedStart);
+        } else {
+            stats.recordError();
+        }
+    }
+
+    // ── HTTP ──────────────────────────────────────────────
+
+    /**
+     * GET 요청 (200이면 성공)
+     */
+    private boolean get(String path) {
+        HttpRequest request = HttpRequest.newBuilder(uri(path)).timeout(REQUEST_TIMEOUT).GET().build();
+        return send(request) == 200;
+    }
+
+    /**
+     * 관리자 폼 제출 (처리 후 목록으로 리다이렉트되면 성공)
+     */
+    private boolean submitForm(String path, Map<String, String> form) {
+        String body = form.entrySet().stream()
+                .map(e -> encode(e.getKey()) + "=" + encode(e.getValue()))
+                .collect(Collectors.joining("&"));
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        int status = send(request);
+        return status >= 300 && status < 400;
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private JsonNode getJson(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri(path)).timeout(REQUEST_TIMEOUT).GET().build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("요청 실패: " + path + " status=" + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    /**
+     * OpenSearch에 인덱싱된 도서 수
+     */
+    private long indexedCount() throws IOException, InterruptedException {
+        return getJson("/api/books/count").path("count").asLong();
+    }
+
+    /**
+     * 수정 대상 도서 ID 목록 (최신 등록순, 최대 MAX_UPDATE_TARGETS건)
+     */
+    private List<Long> bookIds() throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            JsonNode page = getJson("/api/books?size=500" + (cursor != null ? "&cursor=" + encode(cursor) : ""));
+            page.path("content").forEach(book -> ids.add(book.path("id").asLong()));
+            cursor = page.path("nextCursor").isTextual() ? page.path("nextCursor").asText() : null;
+        } while (cursor != null && ids.size() < MAX_UPDATE_TARGETS);
+        return ids;
+    }
+
+    private URI uri(String path) {
+        return options.baseUrl().resolve(path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
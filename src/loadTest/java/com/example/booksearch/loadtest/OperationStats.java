@@ -0,0 +1,113 @@
+package com.example.booksearch.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류별 지연 시간/처리량 집계 (HdrHistogram, 마이크로초 단위)
+ *
+ * 지연 시간은 요청이 "보내졌어야 할" 시각부터 응답 완료까지로 기록한다
+ * 대상 서버가 느려져 요청이 밀리면 밀린 시간도 지연에 포함되므로 coordinated omission으로 인한 과소 측정을 피한다
+ */
+final class OperationStats {
+
+    /** 기록 가능한 최대 지연 (이보다 길면 최대값으로 기록) */
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final String name;
+    private final Recorder recorder = new Recorder(MAX_LATENCY_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    OperationStats(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    /**
+     * 성공 요청 기록
+     *
+     * @param intendedStartNanos 예정 시작 시각 (System.nanoTime 기준)
+     */
+    void recordSuccess(long intendedStartNanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+        recorder.recordValue(Math.min(Math.max(micros, 0), MAX_LATENCY_MICROS));
+    }
+
+    /**
+     * 실패 요청 기록 (지연 분포에는 포함하지 않음)
+     */
+    void recordError() {
+        errors.increment();
+    }
+
+    /**
+     * 지금까지의 기록 폐기 (워밍업 종료 시)
+     */
+    void reset() {
+        recorder.reset();
+        errors.reset();
+    }
+
+    /**
+     * 측정 구간 결과
+     *
+     * @param elapsedNanos 측정 구간 길이
+     * @return 결과 스냅샷
+     */
+    Result result(long elapsedNanos) {
+        return new Result(name, recorder.getIntervalHistogram(), errors.sum(), elapsedNanos);
+    }
+
+    /**
+     * 측정 결과
+     *
+     * @param name         요청 종류
+     * @param histogram    성공 요청 지연 분포 (마이크로초)
+     * @param errors       실패 요청 수
+     * @param elapsedNanos 측정 구간 길이
+     */
+    record Result(String name, Histogram histogram, long errors, long elapsedNanos) {
+
+        double throughput() {
+            return histogram.getTotalCount() / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        /**
+         * 한 줄 요약 출력 (지연 단위 ms)
+         */
+        void print(PrintStream out) {
+            out.printf("%-8s count=%8d errors=%6d throughput=%9.1f/s  p50=%8.2f p99=%8.2f p999=%8.2f max=%8.2f ms%n",
+                    name, histogram.getTotalCount(), errors, throughput(),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        /**
+         * 전체 백분위 분포를 .hgrm 파일로 저장 (HdrHistogram plotter 호환, 단위 ms)
+         */
+        Path write(Path dir) throws IOException {
+            Files.createDirectories(dir);
+            Path file = dir.resolve(name + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+            return file;
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
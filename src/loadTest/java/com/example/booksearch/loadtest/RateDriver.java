@@ -0,0 +1,66 @@
+package com.example.booksearch.loadtest;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정 비율 요청 발생기 (open model)
+ *
+ * 응답을 기다리지 않고 정해진 간격마다 요청을 실행기에 넣는다
+ * 실행기가 포화되어 요청이 밀려도 발생 간격은 유지되며, 각 요청에는 예정 시작 시각이 함께 전달된다
+ */
+final class RateDriver {
+
+    /**
+     * 요청 1건
+     */
+    @FunctionalInterface
+    interface Request {
+
+        /**
+         * @param sequence           요청 순번 (0부터)
+         * @param intendedStartNanos 예정 시작 시각 (System.nanoTime 기준)
+         */
+        void run(long sequence, long intendedStartNanos);
+    }
+
+    private final ExecutorService executor;
+
+    RateDriver(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * deadlineNanos까지 초당 ratePerSecond건으로 요청을 발생시키는 스레드 시작
+     *
+     * @param name          스레드 이름
+     * @param ratePerSecond 초당 요청 수 (0 이하면 발생시키지 않음)
+     * @param deadlineNanos 종료 시각 (System.nanoTime 기준)
+     * @param request       실행할 요청
+     * @return 발생 스레드 (join으로 종료 대기)
+     */
+    Thread start(String name, double ratePerSecond, long deadlineNanos, Request request) {
+        Thread pacer = new Thread(() -> {
+            if (ratePerSecond <= 0) {
+                return;
+            }
+            long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+            long next = System.nanoTime();
+            long sequence = 0;
+            while (next < deadlineNanos) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                    continue;
+                }
+                long n = sequence++;
+                long intendedStart = next;
+                executor.execute(() -> request.run(n, intendedStart));
+                next += intervalNanos;
+            }
+        }, name);
+        pacer.start();
+        return pacer;
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.booksearch.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * books.json 기반 합성 도서 카탈로그
+ *
+ * 샘플 도서의 필드 분포(카테고리, 출판사, 가격대, 제목 어휘)를 유지하면서 원하는 수만큼 도서를 만든다
+ * <ul>
+ *   <li>도서 - 순번으로 결정되는 난수로 만들어 같은 순번은 항상 같은 도서가 된다 (ISBN은 실행마다 고유)</li>
+ *   <li>검색 키워드 - 샘플 제목/저자 어휘에서 뽑은 1~2단어 (자주 쓰인 단어일수록 자주 선택)</li>
+ * </ul>
+ */
+final class SyntheticCatalogue {
+
+    /** 미리 만들어 두는 검색 키워드 수 */
+    private static final int KEYWORD_POOL_SIZE = 10_000;
+
+    private final List<Map<String, Object>> samples;
+    private final List<String> vocabulary;
+    private final List<String> keywords;
+    private final long seed;
+
+    /** 실행 구분용 ISBN 접두어 (이전 실행에서 등록한 도서와 ISBN 충돌 방지) */
+    private final String isbnPrefix;
+
+    private SyntheticCatalogue(List<Map<String, Object>> samples, long seed) {
+        if (samples.isEmpty()) {
+            throw new IllegalArgumentException("카탈로그 원본 데이터가 비어 있습니다.");
+        }
+        this.samples = samples;
+        this.seed = seed;
+        this.vocabulary = vocabulary(samples);
+        this.keywords = keywords(vocabulary, new Random(seed));
+        this.isbnPrefix = String.format("%06d", System.currentTimeMillis() / 1000 % 1_000_000);
+    }
+
+    /**
+     * books.json 파일로 카탈로그 생성
+     *
+     * @param path books.json 경로
+     * @param seed 난수 시드
+     * @return 합성 카탈로그
+     * @throws IOException 파일 읽기 또는 JSON 파싱 실패 시
+     */
+    static SyntheticCatalogue load(Path path, long seed) throws IOException {
+        List<Map<String, Object>> samples = new ObjectMapper().readValue(path.toFile(), new TypeReference<>() {});
+        return new SyntheticCatalogue(samples, seed);
+    }
+
+    /**
+     * 순번에 해당하는 합성 도서 (등록/수정 폼 파라미터)
+     *
+     * @param sequence 도서 순번
+     * @return 폼 필드 이름 → 값
+     */
+    Map<String, String> book(long sequence) {
+        SplittableRandom random = new SplittableRandom(seed ^ (sequence * 0x9E3779B97F4A7C15L));
+        Map<String, Object> sample = samples.get(random.nextInt(samples.size()));
+
+        int basePrice = ((Number) sample.getOrDefault("price", 20000)).intValue();
+        int price = Math.max(1000, (int) (basePrice * (0.7 + random.nextDouble() * 0.6)) / 100 * 100);
+        LocalDate published = LocalDate.parse((String) sample.getOrDefault("publishedDate", "2020-01-01"))
+                .minusDays(random.nextInt(3650));
+
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("title", vocabulary.get(random.nextInt(vocabulary.size())) + " " + sample.get("title")
+                + " " + (sequence / samples.size() + 1) + "판");
+        form.put("author", String.valueOf(sample.get("author")));
+        form.put("publisher", String.valueOf(sample.get("publisher")));
+        form.put("description", String.valueOf(sample.get("description")));
+        form.put("isbn", isbn(sequence));
+        form.put("price", String.valueOf(price));
+        form.put("publishedDate", published.toString());
+        form.put("category", String.valueOf(sample.get("category")));
+        form.put("stockQuantity", String.valueOf(random.nextInt(200)));
+        return form;
+    }
+
+    /**
+     * n번째 검색 키워드 (키워드 풀 순환)
+     */
+    String keyword(long n) {
+        return keywords.get((int) (n % keywords.size()));
+    }
+
+    private String isbn(long sequence) {
+        return "979" + isbnPrefix + String.format("%07d", sequence % 10_000_000);
+    }
+
+    /**
+     * 제목/저자 어휘 (중복 포함, 빈도가 선택 확률이 된다)
+     */
+    private static List<String> vocabulary(List<Map<String, Object>> samples) {
+        List<String> words = new ArrayList<>();
+        for (Map<String, Object> sample : samples) {
+            for (String field : List.of("title", "author")) {
+                Object value = sample.get(field);
+                if (value == null) {
+                    continue;
+                }
+                for (String token : value.toString().split("[\\s:,.()]+")) {
+                    if (token.length() >= 2) {
+                        words.add(token);
+                    }
+                }
+            }
+        }
+        return List.copyOf(words);
+    }
+
+    /**
+     * 검색 키워드 풀 (80% 한 단어, 20% 두 단어)
+     */
+    private static List<String> keywords(List<String> vocabulary, Random random) {
+        List<String> keywords = new ArrayList<>(KEYWORD_POOL_SIZE);
+        for (int i = 0; i < KEYWORD_POOL_SIZE; i++) {
+            String first = vocabulary.get(random.nextInt(vocabulary.size()));
+            if (random.nextInt(5) == 0) {
+                keywords.add(first + " " + vocabulary.get(random.nextInt(vocabulary.size())));
+            } else {
+                keywords.add(first);
+            }
+        }
+        return List.copyOf(keywords);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.booksearch.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 인덱싱 작업용 스레드 풀 설정
+ */
+@Configuration
+public class IndexingExecutorConfig {
+
+    /**
+     * 벌크 요청 전송 워커 풀
+     *
+     * 세션별 동시 요청 수는 BookBulkIndexer가 세마포어로 제한하므로
+     * 큐는 제한하지 않고 풀 크기만 동시 요청 수에 맞춘다
+     * 가상 스레드 모드에서는 요청마다 가상 스레드를 만들고 동시 실행 수만 같은 값으로 제한한다
+     *
+     * @param concurrency    동시 벌크 요청 수
+     * @param virtualThreads 가상 스레드 모드 여부
+     * @return 벌크 워커 Executor
+     */
+    @Bean(name = "bulkIndexExecutor")
+    public AsyncTaskExecutor bulkIndexExecutor(@Value("${book.index.bulk.concurrency:4}") int concurrency,
+                                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("bulk-index-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(concurrency);
+            executor.setTaskTerminationTimeout(30_000);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setThreadNamePrefix("bulk-index-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 인덱스 재구축 등 장시간 관리 작업용 단일 스레드 풀
+     *
+     * 작업을 순서대로 하나씩 처리해야 하므로 가상 스레드 모드에서도 플랫폼 스레드 풀을 유지한다
+     *
+     * @return 인덱스 관리 작업 Executor
+     */
+    @Bean(name = "indexMaintenanceExecutor")
+    public ThreadPoolTaskExecutor indexMaintenanceExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("index-maintenance-");
+        return executor;
+    }
+}
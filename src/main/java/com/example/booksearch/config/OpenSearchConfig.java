@@ -1,11 +1,28 @@
 package com.example.booksearch.config;
 
+import org.apache.http.HttpHost;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.opensearch.client.RestClient;
+import org.opensearch.client.RestClientBuilder;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.sniff.OpenSearchNodesSniffer;
+import org.opensearch.client.sniff.SniffOnFailureListener;
+import org.opensearch.client.sniff.Sniffer;
+import org.opensearch.client.transport.OpenSearchTransport;
 import org.opensearch.data.client.osc.OpenSearchConfiguration;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.elasticsearch.client.ClientConfiguration;
 import org.springframework.data.elasticsearch.repository.config.EnableElasticsearchRepositories;
 
+import java.time.Duration;
+import java.util.Arrays;
+
 /**
  * OpenSearch 연결 설정
  *
@@ -16,13 +33,60 @@ import org.springframework.data.elasticsearch.repository.config.EnableElasticsea
  *   <li>ElasticsearchOperations - 인덱스/문서 CRUD 작업용</li>
  *   <li>Repository 프록시 구현체 - BookSearchRepository 자동 구현용</li>
  * </ul>
+ * OpenSearchAsyncClient는 같은 transport(커넥션 풀)를 공유하도록 직접 등록한다
+ *
+ * 저수준 RestClient는 opensearch.client.* 설정으로 직접 구성한다
+ * <ul>
+ *   <li>opensearch.uris의 여러 노드에 라운드로빈으로 요청을 분산하고, 실패한 노드는 일정 시간 제외 후 재시도</li>
+ *   <li>커넥션 풀 전체/노드별 크기, 유휴 커넥션 keep-alive, 연결/소켓 타임아웃</li>
+ *   <li>요청 본문 gzip 압축 및 응답 압축 수락</li>
+ *   <li>sniff 활성화 시 클러스터 노드 목록을 주기적으로, 그리고 요청 실패 직후 다시 조회</li>
+ * </ul>
+ * 가상 스레드 모드(spring.threads.virtual.enabled)에서는 동기 호출이 캐리어 스레드를 고정하지 않는
+ * VirtualThreadRestClientTransport를 사용한다
  */
 @Configuration
 @EnableElasticsearchRepositories(basePackages = "com.example.booksearch.repository")
 public class OpenSearchConfig extends OpenSearchConfiguration {
 
+    /** 노드 주소 목록 (쉼표 구분) */
     @Value("${opensearch.uris}")
-    private String opensearchUri;
+    private String[] opensearchUris;
+
+    @Value("${opensearch.client.connect-timeout:PT1S}")
+    private Duration connectTimeout;
+
+    @Value("${opensearch.client.socket-timeout:PT30S}")
+    private Duration socketTimeout;
+
+    /** 커넥션 풀 전체 최대 커넥션 수 */
+    @Value("${opensearch.client.max-connections:100}")
+    private int maxConnections;
+
+    /** 노드당 최대 커넥션 수 */
+    @Value("${opensearch.client.max-connections-per-route:50}")
+    private int maxConnectionsPerRoute;
+
+    /** 유휴 커넥션 최대 유지 시간 (서버가 더 짧은 Keep-Alive를 주면 그 값을 따른다) */
+    @Value("${opensearch.client.keep-alive:PT60S}")
+    private Duration keepAlive;
+
+    /** I/O 디스패처 스레드 수 (0이면 CPU 코어 수) */
+    @Value("${opensearch.client.io-threads:0}")
+    private int ioThreads;
+
+    /** 요청 gzip 압축 여부 */
+    @Value("${opensearch.client.compression:true}")
+    private boolean compression;
+
+    /** 노드 sniff 여부 (노드가 광고하는 주소로 직접 접속 가능한 환경에서만 사용) */
+    @Value("${opensearch.client.sniff.enabled:false}")
+    private boolean sniffEnabled;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final SniffOnFailureListener sniffOnFailureListener = new SniffOnFailureListener();
 
     /**
      * OpenSearch 클라이언트 연결 정보
@@ -32,7 +96,109 @@ public class OpenSearchConfig extends OpenSearchConfiguration {
     @Override
     public ClientConfiguration clientConfiguration() {
         return ClientConfiguration.builder()
-                .connectedTo(opensearchUri.replace("http://", ""))
+                .connectedTo(Arrays.stream(opensearchUris)
+                        .map(uri -> HttpHost.create(uri.strip()).toHostString())
+                        .toArray(String[]::new))
+                .withConnectTimeout(connectTimeout)
+                .withSocketTimeout(socketTimeout)
                 .build();
     }
+
+    /**
+     * 커넥션 풀, keep-alive, 압축을 설정한 저수준 REST 클라이언트
+     *
+     * @param clientConfiguration 연결 설정 (노드 주소는 opensearch.uris에서 스킴까지 읽는다)
+     * @return REST 클라이언트
+     */
+    @Override
+    @Bean
+    public RestClient opensearchRestClient(ClientConfiguration clientConfiguration) {
+        HttpHost[] hosts = Arrays.stream(opensearchUris)
+                .map(uri -> HttpHost.create(uri.strip()))
+                .toArray(HttpHost[]::new);
+        long keepAliveMillis = keepAlive.toMillis();
+
+        RestClientBuilder builder = RestClient.builder(hosts)
+                .setCompressionEnabled(compression)
+                .setRequestConfigCallback(request -> request
+                        .setConnectTimeout((int) connectTimeout.toMillis())
+                        .setSocketTimeout((int) socketTimeout.toMillis()))
+                .setHttpClientConfigCallback(httpClient -> httpClient
+                        .setMaxConnTotal(maxConnections)
+                        .setMaxConnPerRoute(maxConnectionsPerRoute)
+                        .setKeepAliveStrategy((response, context) -> {
+                            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+                                    .getKeepAliveDuration(response, context);
+                            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+                        })
+                        .setDefaultIOReactorConfig(IOReactorConfig.custom()
+                                .setSoKeepAlive(true)
+                                .setIoThreadCount(ioThreads > 0 ? ioThreads : Runtime.getRuntime().availableProcessors())
+                                .build()));
+        if (sniffEnabled) {
+            builder.setFailureListener(sniffOnFailureListener);
+        }
+        return builder.build();
+    }
+
+    /**
+     * OpenSearch transport
+     *
+     * 가상 스레드 모드에서는 기본 transport의 옵션을 그대로 쓰되 동기 호출을 비동기 경로로 기다린다
+     *
+     * @param restClient  REST 클라이언트
+     * @param jsonpMapper JSON 매퍼
+     * @return transport (OpenSearchClient, OpenSearchAsyncClient 공용)
+     */
+    @Override
+    @Bean
+    public OpenSearchTransport opensearchTransport(RestClient restClient, JsonpMapper jsonpMapper) {
+        OpenSearchTransport transport = super.opensearchTransport(restClient, jsonpMapper);
+        if (!virtualThreads) {
+            return transport;
+        }
+        return new VirtualThreadRestClientTransport(restClient, jsonpMapper, transport.options());
+    }
+
+    /**
+     * 클러스터 노드 sniffer (opensearch.client.sniff.enabled=true일 때)
+     *
+     * 주기적으로 _nodes/http를 조회해 RestClient의 노드 목록을 갱신하고,
+     * 노드 요청이 실패하면 after-failure-delay 후 다시 조회한다
+     *
+     * @param restClient   REST 클라이언트
+     * @param interval     주기적 조회 간격
+     * @param afterFailure 실패 후 조회까지 지연
+     * @return sniffer (종료 시 REST 클라이언트보다 먼저 닫힌다)
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "opensearch.client.sniff.enabled", havingValue = "true")
+    public Sniffer opensearchSniffer(RestClient restClient,
+                                     @Value("${opensearch.client.sniff.interval:PT5M}") Duration interval,
+                                     @Value("${opensearch.client.sniff.after-failure-delay:PT1M}") Duration afterFailure) {
+        OpenSearchNodesSniffer.Scheme scheme = opensearchUris[0].strip().startsWith("https")
+                ? OpenSearchNodesSniffer.Scheme.HTTPS
+                : OpenSearchNodesSniffer.Scheme.HTTP;
+        Sniffer sniffer = Sniffer.builder(restClient)
+                .setNodesSniffer(new OpenSearchNodesSniffer(restClient,
+                        OpenSearchNodesSniffer.DEFAULT_SNIFF_REQUEST_TIMEOUT, scheme))
+                .setSniffIntervalMillis((int) interval.toMillis())
+                .setSniffAfterFailureDelayMillis((int) afterFailure.toMillis())
+                .build();
+        sniffOnFailureListener.setSniffer(sniffer);
+        return sniffer;
+    }
+
+    /**
+     * 비동기 OpenSearch 클라이언트
+     *
+     * 동기 클라이언트와 transport를 공유하며, 반환된 CompletableFuture를 취소하면 HTTP 요청도 중단된다
+     *
+     * @param openSearchClient 동기 클라이언트
+     * @return 비동기 클라이언트
+     */
+    @Bean
+    public OpenSearchAsyncClient openSearchAsyncClient(OpenSearchClient openSearchClient) {
+        return new OpenSearchAsyncClient(openSearchClient._transport());
+    }
 }
@@ -0,0 +1,53 @@
+package com.example.booksearch.config;
+
+import org.opensearch.client.RestClient;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.TransportOptions;
+import org.opensearch.client.transport.rest_client.RestClientTransport;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 가상 스레드용 OpenSearch transport
+ *
+ * 기본 동기 호출은 저수준 RestClient가 응답을 synchronized 블록 안의 wait()로 기다리므로
+ * 가상 스레드가 응답 대기 내내 캐리어 스레드에 고정된다 (JDK 21)
+ * 동기 호출도 비동기 경로로 보내고 CompletableFuture로 기다려 대기 중에는 캐리어를 반납한다
+ */
+class VirtualThreadRestClientTransport extends RestClientTransport {
+
+    VirtualThreadRestClientTransport(RestClient restClient, JsonpMapper mapper, TransportOptions options) {
+        super(restClient, mapper, options);
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+                                                                  Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                                                                  TransportOptions options) throws IOException {
+        try {
+            return performRequestAsync(request, endpoint, options).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("OpenSearch 요청 대기 중 인터럽트");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
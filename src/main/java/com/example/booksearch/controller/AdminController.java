@@ -1,14 +1,14 @@
 package com.example.booksearch.controller;
 
 import com.example.booksearch.domain.Book;
-import com.example.booksearch.domain.BookDocument;
 import com.example.booksearch.dto.BookRequestDto;
-import com.example.booksearch.service.BookIndexService;
+import com.example.booksearch.dto.BookSummary;
+import com.example.booksearch.dto.CursorPage;
+import com.example.booksearch.service.BookReindexService;
+import com.example.booksearch.service.BookSearchRouter;
 import com.example.booksearch.service.BookService;
+import com.example.booksearch.service.PageSizePolicy;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -26,7 +26,9 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 public class AdminController {
 
     private final BookService bookService;
-    private final BookIndexService bookIndexService;
+    private final BookReindexService bookReindexService;
+    private final BookSearchRouter bookSearchRouter;
+    private final PageSizePolicy pageSizePolicy;
 
     /**
      * 관리자 대시보드 페이지 표시
@@ -38,37 +40,58 @@ public class AdminController {
     public String dashboard(Model model) {
         model.addAttribute("totalBooks", bookService.count());
         model.addAttribute("categories", bookService.findCategories());
+        model.addAttribute("rebuilding", bookReindexService.isRebuilding());
         return "admin/dashboard";
     }
 
+    /**
+     * OpenSearch 인덱스 무중단 재구축 시작
+     *
+     * 새 버전 인덱스를 백그라운드에서 채운 뒤 alias를 교체하므로
+     * 재구축 중에도 기존 인덱스로 검색이 계속된다
+     *
+     * @param redirectAttributes 리다이렉트 시 메시지 전달용
+     * @return 대시보드로 리다이렉트
+     */
+    @PostMapping("/index/rebuild")
+    public String rebuildIndex(RedirectAttributes redirectAttributes) {
+        boolean started = bookReindexService.rebuildIndexAsync();
+        redirectAttributes.addFlashAttribute("message",
+                started ? "인덱스 재구축을 시작했습니다." : "이미 인덱스 재구축이 진행 중입니다.");
+        return "redirect:/admin";
+    }
+
     /**
      * 도서 목록 페이지 표시
      *
-     * keyword가 있으면 OpenSearch 검색, 없으면 PostgreSQL 전체 목록
+     * keyword가 있으면 OpenSearch 검색(PIT + search_after, 목록 표시 필드만 조회), 없으면 PostgreSQL 전체 목록(ID 키셋)
+     * 인덱스 준비 전이나 OpenSearch 장애(서킷 open) 시에는 검색도 PostgreSQL로 처리될 수 있다 (BookSearchRouter)
+     * 페이지 번호 대신 커서로 다음 페이지를 조회하므로 깊은 페이지도 첫 페이지와 비용이 같다
      *
-     * @param page    페이지 번호 (0부터 시작, 기본값 0)
-     * @param size    페이지 크기 (기본값 10)
+     * @param cursor  다음 페이지 커서 (첫 페이지는 생략)
+     * @param size    페이지 크기 (기본값 10, 최대 book.search.max-page-size)
      * @param keyword 검색 키워드 (선택)
      * @param model   뷰에 전달할 모델
      * @return 도서 목록 뷰 이름
      */
     @GetMapping("/books")
     public String bookList(
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String keyword,
             Model model
     ) {
+        int pageSize = pageSizePolicy.resolve(size);
         if (keyword != null && !keyword.isBlank()) {
-            Page<BookDocument> searchResult = bookIndexService.searchBooks(
-                    keyword.trim(), PageRequest.of(page, size));
+            CursorPage<BookSummary> searchResult = bookSearchRouter.searchBookSummaries(keyword.trim(), cursor, pageSize);
             model.addAttribute("books", searchResult);
             model.addAttribute("keyword", keyword.trim());
         } else {
-            Page<Book> books = bookService.findAll(
-                    PageRequest.of(page, size, Sort.by("id").descending()));
+            CursorPage<Book> books = bookService.findAll(cursor, pageSize);
             model.addAttribute("books", books);
         }
+        model.addAttribute("size", pageSize);
+        model.addAttribute("firstPage", cursor == null || cursor.isBlank());
         return "admin/book-list";
     }
 
@@ -0,0 +1,47 @@
+package com.example.booksearch.controller;
+
+import com.example.booksearch.dto.BookImportResult;
+import com.example.booksearch.service.BookImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+/**
+ * 도서 카탈로그 일괄 가져오기 REST API 컨트롤러
+ *
+ * 요청 본문을 임시 파일이나 메모리에 모으지 않고 스트림으로 읽으며 바로 저장/인덱싱한다
+ * 예: curl -X POST -H 'Content-Type: text/csv' --data-binary @books.csv http://localhost:8080/api/books/import
+ */
+@RestController
+@RequestMapping("/api/books/import")
+@RequiredArgsConstructor
+public class BookImportApiController {
+
+    private final BookImportService bookImportService;
+
+    /**
+     * CSV 카탈로그 가져오기 (헤더 행 필수, 컬럼명은 BookRequestDto 필드명)
+     *
+     * @param body 요청 본문
+     * @return 가져오기 결과
+     */
+    @PostMapping(consumes = "text/csv")
+    public BookImportResult importCsv(InputStream body) {
+        return bookImportService.importCatalogue(body, BookImportService.Format.CSV);
+    }
+
+    /**
+     * JSON 카탈로그 가져오기 (도서 객체 배열)
+     *
+     * @param body 요청 본문
+     * @return 가져오기 결과
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BookImportResult importJson(InputStream body) {
+        return bookImportService.importCatalogue(body, BookImportService.Format.JSON);
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.booksearch.controller;
+
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.dto.BookFacetSearchResponse;
+import com.example.booksearch.dto.BookSearchCondition;
+import com.example.booksearch.dto.BookSearchPageResponse;
+import com.example.booksearch.dto.BookSuggestion;
+import com.example.booksearch.dto.CursorPage;
+import com.example.booksearch.service.BookAsyncSearchService;
+import com.example.booksearch.service.BookIndexService;
+import com.example.booksearch.service.BookSearchRouter;
+import com.example.booksearch.service.BookService;
+import com.example.booksearch.service.BookSuggestService;
+import com.example.booksearch.service.PageSizePolicy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DurationFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 도서 검색 REST API 컨트롤러
+ *
+ * OpenSearch 기반 검색 결과를 JSON으로 제공
+ * 모든 경로는 /api/books/** 하위에 매핑
+ */
+@RestController
+@RequestMapping("/api/books")
+@RequiredArgsConstructor
+public class BookSearchApiController {
+
+    private final BookIndexService bookIndexService;
+    private final BookService bookService;
+    private final BookSuggestService bookSuggestService;
+    private final BookAsyncSearchService bookAsyncSearchService;
+    private final BookSearchRouter bookSearchRouter;
+    private final PageSizePolicy pageSizePolicy;
+
+    /**
+     * 전체 도서 목록 커서 페이징 API (PostgreSQL, ID 내림차순 키셋)
+     *
+     * 응답의 nextCursor를 다음 요청의 cursor로 그대로 전달한다
+     *
+     * @param cursor 다음 페이지 커서 (첫 페이지는 생략)
+     * @param size   페이지 크기 (기본값 10, 최대 book.search.max-page-size)
+     * @return 도서 목록과 다음 페이지 커서
+     */
+    @GetMapping
+    public CursorPage<Book> list(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return bookService.findAll(cursor, pageSizePolicy.resolve(size));
+    }
+
+    /**
+     * ISBN 도서 조회 API (엔티티 캐시 read-through)
+     *
+     * @param isbn ISBN
+     * @return 도서
+     */
+    @GetMapping("/isbn/{isbn}")
+    public Book findByIsbn(@PathVariable String isbn) {
+        return bookService.findByIsbn(isbn);
+    }
+
+    /**
+     * 키워드 커서 검색 API (OpenSearch PIT + search_after)
+     *
+     * 응답의 nextCursor를 다음 요청의 cursor로 그대로 전달한다
+     * summary=true면 목록 표시용 필드(BookSummary)만 조회하여 응답 크기와 역직렬화 비용을 줄인다
+     * 인덱스 준비 전이나 OpenSearch 장애(서킷 open) 시에는 PostgreSQL 검색으로 처리될 수 있다 (BookSearchRouter)
+     * timeout 안에 끝나지 않으면 504, 일부 샤드만 응답했으면 timedOut / failedShards / partial로 표시된다
+     *
+     * @param keyword 검색 키워드
+     * @param cursor  다음 페이지 커서 (첫 페이지는 생략)
+     * @param size    페이지 크기 (기본값 10, 최대 book.search.max-page-size)
+     * @param summary 요약 필드만 조회할지 여부 (기본값 false)
+     * @param timeout 요청 제한 시간 (예: 500ms, 2s, 단위 생략 시 ms, 생략 시 book.search.deadline.default)
+     * @return 검색 결과와 다음 페이지 커서
+     */
+    @GetMapping("/search/cursor")
+    public CursorPage<?> searchByCursor(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean summary,
+            @RequestParam(required = false) @DurationFormat(style = DurationFormat.Style.SIMPLE) Duration timeout
+    ) {
+        int pageSize = pageSizePolicy.resolve(size);
+        return summary
+                ? bookSearchRouter.searchBookSummaries(keyword.trim(), cursor, pageSize, timeout)
+                : bookSearchRouter.searchBooks(keyword.trim(), cursor, pageSize, timeout);
+    }
+
+    /**
+     * 자동완성 API (search-as-you-type)
+     *
+     * 검색창은 입력 세션 ID(session)와 키 입력마다 증가하는 순번(seq)을 함께 보낸다
+     * 같은 세션의 더 최신 입력이 도착하면 이전 요청은 취소되고 204 No Content로 응답한다
+     * 예: /api/books/suggest?q=자바 프로&session=abc123&seq=7
+     *
+     * @param q       입력 중인 문자열
+     * @param session 입력 세션 ID (선택)
+     * @param seq     세션 내 요청 순번 (기본값 0)
+     * @return 제안 목록, 취소된 요청은 204
+     */
+    @GetMapping("/suggest")
+    public CompletableFuture<ResponseEntity<List<BookSuggestion>>> suggest(
+            @RequestParam String q,
+            @RequestParam(required = false) String session,
+            @RequestParam(defaultValue = "0") long seq
+    ) {
+        return bookSuggestService.suggest(q, session, seq).handle((suggestions, error) -> {
+            if (error == null) {
+                return ResponseEntity.ok(suggestions);
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof CancellationException) {
+                return ResponseEntity.noContent().build();
+            }
+            throw new CompletionException(cause);
+        });
+    }
+
+    /**
+     * 패싯 검색 API
+     *
+     * 예: /api/books/search?keyword=자바&category=IT&minPrice=10000&maxPrice=30000&publishedFrom=2020-01-01
+     *
+     * @param condition 검색 조건 (keyword, category, publisher, minPrice, maxPrice, publishedFrom, publishedTo)
+     * @param page      페이지 번호 (0부터 시작, 기본값 0)
+     * @param size      페이지 크기 (기본값 10, 최대 book.search.max-page-size)
+     * @return 검색 결과와 카테고리/출판사/가격 구간/출판 연도별 문서 수
+     */
+    @GetMapping("/search")
+    public BookFacetSearchResponse search(
+            @ModelAttribute BookSearchCondition condition,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return bookIndexService.searchWithFacets(condition, pageSizePolicy.pageRequest(page, size));
+    }
+
+    /**
+     * 비동기 검색 페이지 API
+     *
+     * 결과, 패싯, 자동완성 제안을 동시에 조회해 한 번에 반환하며,
+     * OpenSearch 응답을 기다리는 동안 요청 스레드를 점유하지 않는다
+     * 예: /api/books/search/async?keyword=자바&category=IT
+     *
+     * @param condition 검색 조건 (keyword, category, publisher, minPrice, maxPrice, publishedFrom, publishedTo)
+     * @param page      페이지 번호 (0부터 시작, 기본값 0)
+     * @param size      페이지 크기 (기본값 10, 최대 book.search.max-page-size)
+     * @return 검색 결과와 패싯, 제안 목록
+     */
+    @GetMapping("/search/async")
+    public CompletableFuture<BookSearchPageResponse> searchAsync(
+            @ModelAttribute BookSearchCondition condition,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return bookAsyncSearchService.searchPage(condition, pageSizePolicy.pageRequest(page, size));
+    }
+
+    /**
+     * 검색 조건 건수 조회 API
+     *
+     * 문서 본문 없이 매칭 건수만 조회하는 경량 API
+     * 예: /api/books/count?keyword=자바&category=IT
+     *
+     * @param condition 검색 조건 (keyword, category, publisher, minPrice, maxPrice, publishedFrom, publishedTo)
+     * @return 매칭 도서 수를 담은 Map (count)
+     */
+    @GetMapping("/count")
+    public Map<String, Long> count(@ModelAttribute BookSearchCondition condition) {
+        return Map.of("count", bookIndexService.countBooks(condition));
+    }
+}
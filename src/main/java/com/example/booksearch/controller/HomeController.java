@@ -1,26 +1,43 @@
 package com.example.booksearch.controller;
 
+import com.example.booksearch.service.IndexBootstrapHealthIndicator;
+import com.example.booksearch.service.IndexBootstrapStatus;
+import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * 홈 및 공통 API 컨트롤러
  */
 @RestController
+@RequiredArgsConstructor
 public class HomeController {
 
+    private final IndexBootstrapStatus indexBootstrapStatus;
+    private final IndexBootstrapHealthIndicator indexBootstrapHealthIndicator;
+
     /**
      * 애플리케이션 헬스체크 API
      *
-     * @return 상태 정보를 담은 Map (status, application)
+     * status는 /actuator/health/readiness의 indexBootstrap과 같은 기준 (fallback 없이 FAILED면 DOWN),
+     * index는 기동 시 인덱스 준비 상태(indexing, ready, failed),
+     * searchFallback은 검색을 PostgreSQL로 처리 중인지 여부, error는 마지막 bootstrap 실패 사유
+     *
+     * @return 상태 정보를 담은 Map (status, application, index, searchFallback, error)
      */
     @GetMapping("/api/health")
-    public Map<String, String> health() {
-        return Map.of(
-                "status", "UP",
-                "application", "book-search"
-        );
+    public Map<String, Object> health() {
+        Map<String, Object> health = new LinkedHashMap<>();
+        health.put("status", indexBootstrapHealthIndicator.health().getStatus().getCode());
+        health.put("application", "book-search");
+        health.put("index", indexBootstrapStatus.getState().name().toLowerCase());
+        health.put("searchFallback", indexBootstrapStatus.isServingFallback());
+        if (indexBootstrapStatus.getError() != null) {
+            health.put("error", indexBootstrapStatus.getError());
+        }
+        return health;
     }
 }
@@ -15,15 +15,25 @@ import java.time.LocalDateTime;
  *
  * PostgreSQL에 저장되는 도서 원본 데이터
  * OpenSearch 인덱스와 동기화하여 검색에 활용
+ *
+ * ID는 시퀀스에서 ID_ALLOCATION_SIZE개씩 미리 할당받아(pooled-lo) persist 시 DB 왕복 없이 정하므로
+ * 여러 건 저장 시 INSERT가 JDBC 배치로 묶인다 (IDENTITY는 INSERT마다 즉시 실행되어 배치 불가)
  */
 @Entity
-@Table(name = "books")
+@Table(name = "books", uniqueConstraints = @UniqueConstraint(name = "uk_books_isbn", columnNames = "isbn"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Book {
 
+    /** ID 시퀀스 이름 */
+    public static final String ID_SEQUENCE = "book_seq";
+
+    /** 시퀀스 1회 호출로 할당받는 ID 수 (시퀀스 INCREMENT BY와 같아야 함) */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     /** 도서명 */
@@ -42,7 +52,6 @@ public class Book {
     private String description;
 
     /** ISBN */
-    @Column(unique = true)
     private String isbn;
 
     /** 가격 (원) */
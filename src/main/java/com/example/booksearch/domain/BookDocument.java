@@ -8,6 +8,8 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
 import org.springframework.data.elasticsearch.annotations.Setting;
 
 import java.time.LocalDate;
@@ -22,12 +24,16 @@ import java.time.LocalDateTime;
  * 인덱스 매핑 전략:
  * <ul>
  *   <li>text (korean 분석기): title, author, description → Full-text 검색 대상</li>
+ *   <li>search_as_you_type (autocomplete 분석기): title.suggest, author.suggest → 자동완성</li>
  *   <li>keyword: publisher, isbn, category → 정확한 값 필터링</li>
  *   <li>integer: price, stockQuantity → 범위 검색</li>
  *   <li>date: publishedDate, createdAt, updatedAt → 범위 검색 및 정렬</li>
  * </ul>
+ *
+ * indexName 'books'는 버전 인덱스(books_v{n})를 가리키는 alias이며,
+ * 인덱스 생성은 Repository 초기화가 아닌 BookIndexService가 담당한다
  */
-@Document(indexName = "books")
+@Document(indexName = "books", createIndex = false)
 @Setting(settingPath = "/opensearch/book-index-settings.json")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -37,12 +43,21 @@ public class BookDocument {
     @Id
     private Long id;
 
-    /** 도서명 - Nori 형태소 분석 Full-text 검색 대상 */
-    @Field(type = FieldType.Text, analyzer = "korean", searchAnalyzer = "korean_search")
+    /**
+     * 도서명 - Nori 형태소 분석 Full-text 검색 대상
+     *
+     * title.suggest: 입력 중인 접두어 매칭용 search_as_you_type 서브필드
+     * 입력 중인 음절은 형태소 단위로 분리되지 않으므로 Nori 대신 standard 토크나이저를 사용한다
+     */
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, analyzer = "korean", searchAnalyzer = "korean_search"),
+            otherFields = @InnerField(suffix = "suggest", type = FieldType.Search_As_You_Type, analyzer = "autocomplete"))
     private String title;
 
-    /** 저자 - Nori 형태소 분석 Full-text 검색 대상 */
-    @Field(type = FieldType.Text, analyzer = "korean")
+    /** 저자 - Nori 형태소 분석 Full-text 검색 대상, author.suggest는 자동완성용 */
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, analyzer = "korean"),
+            otherFields = @InnerField(suffix = "suggest", type = FieldType.Search_As_You_Type, analyzer = "autocomplete"))
     private String author;
 
     /** 출판사 - keyword 정확한 값 필터링 */
@@ -0,0 +1,15 @@
+package com.example.booksearch.domain;
+
+/**
+ * OpenSearch 인덱스 반영 작업 유형
+ *
+ * Outbox 레코드에 기록되어 디스패처가 벌크 요청의 액션을 결정할 때 사용한다
+ */
+public enum BookIndexOperation {
+
+    /** 문서 생성/수정 (upsert) */
+    INDEX,
+
+    /** 문서 삭제 */
+    DELETE
+}
@@ -0,0 +1,113 @@
+package com.example.booksearch.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * OpenSearch 인덱싱 Outbox JPA Entity
+ *
+ * 도서 변경과 같은 트랜잭션에서 기록되어 DB 커밋과 인덱싱 요청의 원자성을 보장한다
+ * BookIndexOutboxDispatcher가 주기적으로 읽어 벌크 요청으로 반영한 뒤 삭제하므로
+ * 애플리케이션이 재기동되더라도 최소 1회(at-least-once) 반영된다
+ *
+ * 반영에 실패한 레코드는 시도 횟수에 따라 지수 백오프 후 재시도하고,
+ * 최대 시도 횟수에 도달하면 보류(parked) 상태로 남겨 더 이상 디스패치하지 않는다
+ */
+@Entity
+@Table(name = "book_index_outbox", indexes = @Index(name = "idx_book_index_outbox_book_id", columnList = "bookId"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookIndexOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_index_outbox_seq")
+    @SequenceGenerator(name = "book_index_outbox_seq", sequenceName = "book_index_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    /** 대상 도서 ID */
+    @Column(nullable = false)
+    private Long bookId;
+
+    /** 인덱스 반영 작업 유형 */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private BookIndexOperation operation;
+
+    /** 반영 시도 횟수 */
+    private int attempts;
+
+    /** 마지막 실패 사유 */
+    @Column(length = 1000)
+    private String lastError;
+
+    /** 다음 재시도 가능 일시 (null이면 즉시) */
+    private LocalDateTime nextAttemptAt;
+
+    /** 최대 시도 횟수 초과로 보류된 일시 (null이면 디스패치 대상) */
+    private LocalDateTime parkedAt;
+
+    /** 등록 일시 (지연 시간 측정 기준) */
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    private BookIndexOutbox(Long bookId, BookIndexOperation operation) {
+        this.bookId = bookId;
+        this.operation = operation;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * 문서 생성/수정 Outbox 레코드 생성
+     *
+     * @param bookId 대상 도서 ID
+     * @return INDEX 작업 레코드
+     */
+    public static BookIndexOutbox index(Long bookId) {
+        return new BookIndexOutbox(bookId, BookIndexOperation.INDEX);
+    }
+
+    /**
+     * 문서 삭제 Outbox 레코드 생성
+     *
+     * @param bookId 대상 도서 ID
+     * @return DELETE 작업 레코드
+     */
+    public static BookIndexOutbox delete(Long bookId) {
+        return new BookIndexOutbox(bookId, BookIndexOperation.DELETE);
+    }
+
+    /**
+     * 반영 실패 기록
+     *
+     * 시도 횟수가 maxAttempts에 도달하면 보류하고,
+     * 아니면 backoff * 2^(시도 횟수 - 1) (최대 maxBackoff) 뒤로 다음 시도를 미룬다
+     *
+     * @param error       실패 사유
+     * @param now         현재 일시
+     * @param maxAttempts 최대 시도 횟수
+     * @param backoff     첫 재시도 지연
+     * @param maxBackoff  최대 재시도 지연
+     * @return 이번 실패로 보류되었으면 true
+     */
+    public boolean markFailed(String error, LocalDateTime now, int maxAttempts, Duration backoff, Duration maxBackoff) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (attempts >= maxAttempts) {
+            this.parkedAt = now;
+            this.nextAttemptAt = null;
+            return true;
+        }
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        this.nextAttemptAt = now.plus(delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay);
+        return false;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.booksearch.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * OpenSearch 인덱스 동기화 상태 JPA Entity
+ *
+ * 인덱스에 성공적으로 반영된 도서의 최대 수정 일시(watermark)를 기록하여
+ * 재기동 시 그 이후 변경분만 증분 동기화할 수 있게 한다
+ * watermark는 기록 당시 alias가 가리키던 인덱스에 대해서만 유효하다
+ */
+@Entity
+@Table(name = "index_sync_state")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IndexSyncState {
+
+    /** 동기화 대상 alias 이름 */
+    @Id
+    private String aliasName;
+
+    /** watermark 기록 당시 alias가 가리키던 인덱스 목록 (쉼표 구분) */
+    @Column(nullable = false)
+    private String indexNames;
+
+    /** 인덱스에 반영된 도서의 최대 수정 일시 */
+    private LocalDateTime watermark;
+
+    /** 마지막 동기화 일시 */
+    private LocalDateTime syncedAt;
+
+    public IndexSyncState(String aliasName, String indexNames, LocalDateTime watermark) {
+        this.aliasName = aliasName;
+        this.indexNames = indexNames;
+        this.watermark = watermark;
+        this.syncedAt = LocalDateTime.now();
+    }
+
+    /**
+     * watermark가 현재 인덱스에 대해 유효한지 확인
+     *
+     * 인덱스가 재생성되었거나 alias가 다른 인덱스로 교체되면 무효로 본다
+     *
+     * @param currentIndexNames 현재 alias가 가리키는 인덱스 목록 (쉼표 구분)
+     * @return 유효하면 true
+     */
+    public boolean isValidFor(String currentIndexNames) {
+        return watermark != null && indexNames.equals(currentIndexNames);
+    }
+}
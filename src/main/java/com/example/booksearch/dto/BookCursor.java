@@ -0,0 +1,105 @@
+package com.example.booksearch.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 위치 정보
+ *
+ * 클라이언트에는 Base64(URL-safe) 인코딩된 불투명 토큰으로만 전달되며,
+ * 다음 페이지 요청 시 그대로 되돌려 받아 이전 페이지의 마지막 위치부터 이어서 조회한다
+ *
+ * <ul>
+ *   <li>DB 목록: 마지막 도서 ID (ID 키셋)</li>
+ *   <li>OpenSearch 검색: 마지막 hit의 sort 값 (search_after) + PIT ID (첫 페이지 커서에는 없음)</li>
+ * </ul>
+ *
+ * @param lastId      이전 페이지 마지막 도서 ID (DB 목록용)
+ * @param pitId       Point-in-Time ID (검색용, 첫 페이지 커서는 null이며 다음 페이지 조회 시 열림)
+ * @param searchAfter 이전 페이지 마지막 hit의 sort 값 (검색용)
+ * @param total       첫 페이지에서 계산한 전체 건수 (이후 페이지에서는 다시 세지 않음, 세지 않았으면 -1)
+ * @param totalExact  전체 건수가 정확한 값인지 여부
+ */
+public record BookCursor(Long lastId, String pitId, List<String> searchAfter, long total, boolean totalExact) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * DB 목록 커서 생성
+     *
+     * @param lastId 이전 페이지 마지막 도서 ID
+     * @param total  전체 건수
+     * @return 커서
+     */
+    public static BookCursor ofId(Long lastId, long total) {
+        return new BookCursor(lastId, null, null, total, true);
+    }
+
+    /**
+     * 검색 커서 생성
+     *
+     * @param pitId       Point-in-Time ID (PIT 없이 조회한 첫 페이지는 null)
+     * @param searchAfter 마지막 hit의 sort 값
+     * @param total       전체 검색 결과 수
+     * @param totalExact  전체 검색 결과 수가 정확한 값인지 여부
+     * @return 커서
+     */
+    public static BookCursor ofSearch(String pitId, List<String> searchAfter, long total, boolean totalExact) {
+        return new BookCursor(null, pitId, List.copyOf(searchAfter), total, totalExact);
+    }
+
+    /**
+     * 불투명 토큰으로 인코딩
+     *
+     * @return URL-safe Base64 토큰
+     */
+    public String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(this));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("커서 인코딩 실패", e);
+        }
+    }
+
+    /**
+     * 토큰 디코딩
+     *
+     * @param token 커서 토큰 (null 또는 빈 값이면 첫 페이지)
+     * @return 커서, 첫 페이지면 null
+     * @throws IllegalArgumentException 토큰 형식이 올바르지 않을 경우
+     */
+    public static BookCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            return MAPPER.readValue(Base64.getUrlDecoder().decode(token), BookCursor.class);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("잘못된 커서입니다. cursor=" + token, e);
+        }
+    }
+
+    /**
+     * DB 목록 커서 여부
+     *
+     * @return 마지막 도서 ID가 있으면 true
+     */
+    @JsonIgnore
+    public boolean isIdCursor() {
+        return lastId != null;
+    }
+
+    /**
+     * 검색 커서 여부
+     *
+     * @return sort 값이 있으면 true
+     */
+    @JsonIgnore
+    public boolean isSearchCursor() {
+        return searchAfter != null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.booksearch.dto;
+
+import com.example.booksearch.domain.BookDocument;
+
+import java.util.List;
+
+/**
+ * 도서 패싯 검색 응답
+ *
+ * 검색 결과와 패싯별 문서 수를 한 번의 검색 요청으로 함께 반환한다
+ * 패싯 수는 현재 검색 조건(키워드 + 필터)이 적용된 결과 기준이다
+ *
+ * @param books          현재 페이지 도서 목록
+ * @param totalHits      전체 검색 결과 수 (세지 않았으면 -1)
+ * @param totalHitsExact 전체 검색 결과 수가 정확한 값인지 여부 (false면 totalHits건 이상)
+ * @param hasNext        다음 페이지 존재 여부
+ * @param page           페이지 번호 (0부터 시작)
+ * @param size           페이지 크기
+ * @param categories     카테고리별 문서 수
+ * @param publishers     출판사별 문서 수
+ * @param priceRanges    가격 구간별 문서 수
+ * @param publishedYears 출판 연도별 문서 수
+ */
+public record BookFacetSearchResponse(
+        List<BookDocument> books,
+        long totalHits,
+        boolean totalHitsExact,
+        boolean hasNext,
+        int page,
+        int size,
+        List<FacetBucket> categories,
+        List<FacetBucket> publishers,
+        List<FacetBucket> priceRanges,
+        List<FacetBucket> publishedYears) {
+
+    /**
+     * 패싯 버킷
+     *
+     * @param key   버킷 값 (카테고리명, 출판사명, 가격 구간명, 연도)
+     * @param count 해당 버킷의 문서 수
+     */
+    public record FacetBucket(String key, long count) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.booksearch.dto;
+
+import java.util.List;
+
+/**
+ * 도서 카탈로그 일괄 가져오기 결과
+ *
+ * @param read        읽은 행 수
+ * @param upserted    DB에 저장(신규 등록 또는 ISBN 기준 갱신)한 행 수
+ * @param rejected    검증/파싱 실패로 건너뛴 행 수
+ * @param indexed     OpenSearch 반영에 성공한 문서 수
+ * @param indexFailed OpenSearch 반영에 실패한 문서 수 (Outbox에 등록되어 디스패처가 재시도)
+ * @param rejections  건너뛴 행 상세 (보고 한도까지만 수집되므로 rejected보다 적을 수 있음)
+ */
+public record BookImportResult(
+        long read,
+        long upserted,
+        long rejected,
+        long indexed,
+        long indexFailed,
+        List<Rejection> rejections) {
+
+    /**
+     * 건너뛴 행 정보
+     *
+     * @param line   입력 파일의 줄 번호
+     * @param reason 사유
+     */
+    public record Rejection(long line, String reason) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.booksearch.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * 도서 패싯 검색 조건 DTO
+ *
+ * keyword는 스코어 계산(must)에, 나머지 조건은 filter 컨텍스트에 사용된다
+ * 모든 조건은 선택이며, 값이 없으면 해당 조건을 적용하지 않는다
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BookSearchCondition {
+
+    /** 검색 키워드 (title, author, description) */
+    private String keyword;
+
+    /** 카테고리 (keyword 정확 매칭) */
+    private String category;
+
+    /** 출판사 (keyword 정확 매칭) */
+    private String publisher;
+
+    /** 최소 가격 (이상) */
+    private Integer minPrice;
+
+    /** 최대 가격 (이하) */
+    private Integer maxPrice;
+
+    /** 출판일 시작 (이후, 포함) */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate publishedFrom;
+
+    /** 출판일 끝 (이전, 포함) */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate publishedTo;
+
+    /**
+     * 키워드 조건 존재 여부
+     *
+     * @return 공백이 아닌 키워드가 있으면 true
+     */
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.isBlank();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.booksearch.dto;
+
+import java.util.List;
+
+/**
+ * 검색 화면 한 페이지 응답 (비동기 검색)
+ *
+ * 결과, 패싯, 자동완성 제안을 동시에 조회해 한 번에 반환한다
+ * 패싯이나 제안 조회가 실패하면 해당 부분만 비어 있다
+ *
+ * @param search      검색 결과와 패싯
+ * @param suggestions 키워드 자동완성 제안 (키워드가 없으면 빈 목록)
+ */
+public record BookSearchPageResponse(
+        BookFacetSearchResponse search,
+        List<BookSuggestion> suggestions) {
+}
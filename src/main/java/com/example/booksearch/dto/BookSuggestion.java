@@ -0,0 +1,11 @@
+package com.example.booksearch.dto;
+
+/**
+ * 자동완성 제안 항목
+ *
+ * @param id     도서 ID
+ * @param title  도서명
+ * @param author 저자
+ */
+public record BookSuggestion(Long id, String title, String author) {
+}
@@ -0,0 +1,65 @@
+package com.example.booksearch.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 목록 화면용 도서 요약 정보
+ *
+ * 검색 시 _source를 이 필드들로만 제한하여 조회하므로
+ * description 같은 긴 본문을 전송/역직렬화하지 않는다
+ * 목록 템플릿이 Book 엔티티와 같은 프로퍼티 이름(getter)으로 렌더링할 수 있도록 필드명을 맞춘다
+ */
+@Getter
+public class BookSummary {
+
+    /** _source includes 필드 목록 (id는 hit의 _id 사용) */
+    public static final List<String> SOURCE_FIELDS = List.of("title", "author", "publisher", "category", "price");
+
+    /** 도서 ID */
+    private final Long id;
+
+    /** 도서명 */
+    private final String title;
+
+    /** 저자 */
+    private final String author;
+
+    /** 출판사 */
+    private final String publisher;
+
+    /** 카테고리 */
+    private final String category;
+
+    /** 가격 */
+    private final Integer price;
+
+    public BookSummary(Long id, String title, String author, String publisher, String category, Integer price) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.publisher = publisher;
+        this.category = category;
+        this.price = price;
+    }
+
+    /**
+     * 검색 hit → 요약 정보 변환
+     *
+     * @param id     문서 _id
+     * @param source 필터링된 _source
+     * @return 도서 요약 정보
+     */
+    public static BookSummary from(String id, Map<String, Object> source) {
+        Object price = source.get("price");
+        return new BookSummary(
+                Long.valueOf(id),
+                (String) source.get("title"),
+                (String) source.get("author"),
+                (String) source.get("publisher"),
+                (String) source.get("category"),
+                price instanceof Number number ? number.intValue() : null);
+    }
+}
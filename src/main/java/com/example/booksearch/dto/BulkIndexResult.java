@@ -0,0 +1,49 @@
+package com.example.booksearch.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벌크 인덱싱 결과
+ *
+ * @param succeeded 반영에 성공한 문서 수
+ * @param failed    재시도 후에도 실패한 문서 수
+ * @param failures  실패 문서 상세 (보고 한도까지만 수집되므로 failed보다 적을 수 있음)
+ */
+public record BulkIndexResult(long succeeded, long failed, List<ItemFailure> failures) {
+
+    /**
+     * 실패 상세 목록이 한도 초과로 잘렸는지 여부
+     *
+     * @return 잘렸으면 true
+     */
+    public boolean failuresTruncated() {
+        return failed > failures.size();
+    }
+
+    /**
+     * 다른 결과의 실패 정보를 합친 결과 생성
+     *
+     * 같은 변경분을 여러 인덱스에 기록한 경우 한쪽이라도 실패한 문서를 재시도 대상으로 남기기 위해 사용한다
+     * 성공 수는 현재 결과 기준으로 유지한다
+     *
+     * @param other 합칠 결과
+     * @return 실패 수와 실패 상세가 합쳐진 결과
+     */
+    public BulkIndexResult withFailuresOf(BulkIndexResult other) {
+        List<ItemFailure> merged = new ArrayList<>(failures);
+        merged.addAll(other.failures());
+        return new BulkIndexResult(succeeded, failed + other.failed(), List.copyOf(merged));
+    }
+
+    /**
+     * 벌크 응답의 문서 단위 실패 정보
+     *
+     * @param id     문서 ID
+     * @param status HTTP 상태 코드 (요청 자체 실패 시 0)
+     * @param type   오류 유형 (예: mapper_parsing_exception)
+     * @param reason 오류 상세
+     */
+    public record ItemFailure(String id, int status, String type, String reason) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.booksearch.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답
+ *
+ * 페이지 번호 대신 다음 페이지 커서 토큰을 제공하며,
+ * 깊은 페이지도 첫 페이지와 같은 비용으로 조회된다
+ *
+ * @param <T> 항목 타입
+ */
+@Getter
+public class CursorPage<T> {
+
+    /** 현재 페이지 항목 */
+    private final List<T> content;
+
+    /** 전체 건수 (첫 페이지 기준, 세지 않았으면 -1) */
+    private final long totalElements;
+
+    /** 전체 건수가 정확한 값인지 여부 (false면 totalElements건 이상) */
+    private final boolean totalExact;
+
+    /** 다음 페이지 커서 토큰 (마지막 페이지면 null) */
+    private final String nextCursor;
+
+    /** 샤드 검색 제한 시간을 넘겨 일부 샤드가 그때까지의 결과만 반환했는지 여부 */
+    private final boolean timedOut;
+
+    /** 검색에 실패한 샤드 수 (해당 샤드의 문서는 결과에서 빠짐) */
+    private final int failedShards;
+
+    public CursorPage(List<T> content, long totalElements, String nextCursor) {
+        this(content, totalElements, true, nextCursor);
+    }
+
+    public CursorPage(List<T> content, long totalElements, boolean totalExact, String nextCursor) {
+        this(content, totalElements, totalExact, nextCursor, false, 0);
+    }
+
+    public CursorPage(List<T> content, long totalElements, boolean totalExact, String nextCursor,
+                      boolean timedOut, int failedShards) {
+        this.content = content;
+        this.totalElements = totalElements;
+        this.totalExact = totalExact;
+        this.nextCursor = nextCursor;
+        this.timedOut = timedOut;
+        this.failedShards = failedShards;
+    }
+
+    /**
+     * 다음 페이지 존재 여부
+     *
+     * @return 다음 페이지가 있으면 true
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * 부분 결과 여부 (샤드 timeout 또는 샤드 실패)
+     *
+     * @return 일부 샤드의 결과가 빠졌을 수 있으면 true
+     */
+    public boolean isPartial() {
+        return timedOut || failedShards > 0;
+    }
+}
@@ -1,21 +1,27 @@
 package com.example.booksearch.init;
 
-import com.example.booksearch.domain.Book;
-import com.example.booksearch.dto.BookRequestDto;
+import com.example.booksearch.dto.BookImportResult;
+import com.example.booksearch.service.BookImportService;
 import com.example.booksearch.service.BookIndexService;
+import com.example.booksearch.service.BookIndexSyncService;
 import com.example.booksearch.service.BookService;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import lombok.RequiredArgsConstructor;
+import com.example.booksearch.service.IndexBootstrapStatus;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.io.InputStream;
-import java.util.List;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 애플리케이션 시작 시 초기 도서 데이터 로딩 및 OpenSearch 인덱싱
@@ -23,55 +29,141 @@ import java.util.List;
  * src/main/resources/data/books.json 파일을 읽어
  * DB에 데이터가 없을 경우 자동으로 샘플 도서 등록
  * 기동 시마다 OpenSearch 인덱스 존재를 보장하고,
- * DB에 있지만 OpenSearch에 없는 데이터를 벌크 인덱싱한다
+ * 마지막 동기화 이후 DB에서 변경/삭제된 데이터를 OpenSearch에 반영한다
+ *
+ * book.index.bootstrap.async=true면 이 작업을 indexMaintenanceExecutor에서 실행하고 바로 반환하므로
+ * 애플리케이션은 인덱스 준비와 동시에 요청을 받기 시작한다
+ * 진행 상태는 IndexBootstrapStatus로 노출되며 (/api/health, /actuator/health/readiness),
+ * 준비 전 검색은 설정에 따라 PostgreSQL로 처리된다
+ * 비동기 bootstrap이 실패하면 retry-backoff부터 2배씩(최대 max-retry-backoff) 기다린 뒤 다시 실행한다
+ * (대기는 taskScheduler에 맡기므로 단일 스레드인 indexMaintenanceExecutor를 점유하지 않음)
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class DataInitializer implements ApplicationRunner {
 
     private final BookService bookService;
     private final BookIndexService bookIndexService;
+    private final BookIndexSyncService bookIndexSyncService;
+    private final BookImportService bookImportService;
+    private final IndexBootstrapStatus indexBootstrapStatus;
+    private final TaskExecutor indexMaintenanceExecutor;
+    private final TaskScheduler taskScheduler;
+
+    /** 인덱스 bootstrap 비동기 실행 여부 */
+    private final boolean async;
+
+    /** 비동기 bootstrap 첫 재시도 지연 (실패마다 2배, 최대 maxRetryBackoff) */
+    private final Duration retryBackoff;
+
+    /** 비동기 bootstrap 재시도 지연 상한 */
+    private final Duration maxRetryBackoff;
+
+    public DataInitializer(BookService bookService,
+                           BookIndexService bookIndexService,
+                           BookIndexSyncService bookIndexSyncService,
+                           BookImportService bookImportService,
+                           IndexBootstrapStatus indexBootstrapStatus,
+                           @Qualifier("indexMaintenanceExecutor") TaskExecutor indexMaintenanceExecutor,
+                           TaskScheduler taskScheduler,
+                           @Value("${book.index.bootstrap.async:false}") boolean async,
+                           @Value("${book.index.bootstrap.retry-backoff:PT10S}") Duration retryBackoff,
+                           @Value("${book.index.bootstrap.max-retry-backoff:PT5M}") Duration maxRetryBackoff) {
+        this.bookService = bookService;
+        this.bookIndexService = bookIndexService;
+        this.bookIndexSyncService = bookIndexSyncService;
+        this.bookImportService = bookImportService;
+        this.indexBootstrapStatus = indexBootstrapStatus;
+        this.indexMaintenanceExecutor = indexMaintenanceExecutor;
+        this.taskScheduler = taskScheduler;
+        this.async = async;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+    }
 
     /**
      * 애플리케이션 기동 시 초기 데이터 로딩 및 OpenSearch 동기화
      *
-     * 1) OpenSearch 인덱스 생성 보장
-     * 2) DB에 도서 데이터가 없으면 books.json에서 초기 데이터 로딩
-     * 3) DB 전체 도서를 OpenSearch에 벌크 인덱싱
+     * 비동기 모드에서는 작업을 예약만 하고 반환하며, 실패해도 기동은 계속되고 백오프 후 재시도한다
      *
      * @param args 애플리케이션 실행 인자
-     * @throws Exception JSON 파싱 또는 DB 저장 실패 시
      */
     @Override
-    public void run(ApplicationArguments args) throws Exception {
-        // 1) OpenSearch 인덱스 생성 보장
-        bookIndexService.createIndexIfNotExists();
+    public void run(ApplicationArguments args) {
+        if (!async) {
+            bootstrap();
+            return;
+        }
+        log.info("인덱스 bootstrap 비동기 실행 (준비 전 검색 fallback: {})", indexBootstrapStatus.isServingFallback());
+        indexMaintenanceExecutor.execute(() -> bootstrapWithRetry(0));
+    }
 
-        // 2) DB에 데이터가 없으면 JSON에서 초기 로딩 (createBook 내부에서 개별 인덱싱 수행)
-        if (bookService.count() == 0) {
-            log.info("초기 도서 데이터 로딩 시작...");
+    /**
+     * 비동기 bootstrap 실행, 실패하면 백오프 후 다시 예약
+     *
+     * 재시도를 기다리는 동안은 FAILED, 재시도를 시작하면 INDEXING이다
+     *
+     * @param attempt 이전 실패 횟수
+     */
+    private void bootstrapWithRetry(int attempt) {
+        if (attempt > 0) {
+            indexBootstrapStatus.markIndexing();
+        }
+        try {
+            bootstrap();
+        } catch (RuntimeException e) {
+            Duration delay = retryDelay(attempt);
+            log.error("인덱스 bootstrap 실패 ({}회째), {}초 후 재시도: {}",
+                    attempt + 1, delay.toSeconds(), e.getMessage(), e);
+            taskScheduler.schedule(() -> indexMaintenanceExecutor.execute(() -> bootstrapWithRetry(attempt + 1)),
+                    Instant.now().plus(delay));
+        }
+    }
 
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.registerModule(new JavaTimeModule());
+    private Duration retryDelay(int attempt) {
+        Duration delay = retryBackoff.multipliedBy(1L << Math.min(attempt, 16));
+        return delay.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : delay;
+    }
+
+    /**
+     * 인덱스 bootstrap
+     *
+     * 1) OpenSearch 인덱스 생성 보장
+     * 2) DB에 도서 데이터가 없으면 books.json에서 초기 데이터 로딩 (일괄 가져오기 파이프라인)
+     * 3) 기존 데이터가 있으면 마지막 동기화 이후 변경분만 증분 인덱싱하고 삭제 누락 정리
+     * 끝나면 IndexBootstrapStatus를 READY로, 실패하면 FAILED로 기록한다
+     */
+    private void bootstrap() {
+        long startedAt = System.nanoTime();
+        try {
+            // 1) OpenSearch 인덱스 생성 보장
+            bookIndexService.createIndexIfNotExists();
 
-            ClassPathResource resource = new ClassPathResource("data/books.json");
-            try (InputStream is = resource.getInputStream()) {
-                List<BookRequestDto> requests = mapper.readValue(is, new TypeReference<>() {});
+            // 2) DB에 데이터가 없으면 JSON에서 초기 로딩 (스트리밍 파싱, JDBC 배치 upsert, 벌크 인덱싱)
+            long count = bookService.count();
+            if (count == 0) {
+                log.info("초기 도서 데이터 로딩 시작...");
 
-                for (BookRequestDto request : requests) {
-                    bookService.createBook(request);
+                ClassPathResource resource = new ClassPathResource("data/books.json");
+                try (InputStream is = resource.getInputStream()) {
+                    BookImportResult result = bookImportService.importInitialCatalogue(is,
+                            BookImportService.Format.JSON);
+                    log.info("초기 도서 데이터 {}건 로딩 완료 (건너뜀 {}건)", result.upserted(), result.rejected());
                 }
-
-                log.info("초기 도서 데이터 {}건 로딩 완료", requests.size());
-            }
-        } else {
-            // 3) 기존 DB 데이터가 있으면 OpenSearch 동기화 (재기동 시 누락 복구)
-            log.info("기존 도서 데이터 {}건 존재, 초기 데이터 로딩 스킵", bookService.count());
-            List<Book> allBooks = bookService.findAll();
-            if (!allBooks.isEmpty()) {
-                bookIndexService.bulkIndexBooks(allBooks);
+            } else {
+                // 3) 기존 DB 데이터가 있으면 watermark 기반 증분 동기화 (재기동 시 누락 복구)
+                log.info("기존 도서 데이터 {}건 존재, 초기 데이터 로딩 스킵", count);
+                bookIndexSyncService.syncOnStartup();
             }
+        } catch (IOException e) {
+            indexBootstrapStatus.markFailed(e);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            indexBootstrapStatus.markFailed(e);
+            throw e;
         }
+
+        indexBootstrapStatus.markReady();
+        log.info("인덱스 bootstrap 완료: {}ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
     }
 }
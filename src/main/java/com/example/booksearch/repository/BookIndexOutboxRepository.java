@@ -0,0 +1,59 @@
+package com.example.booksearch.repository;
+
+import com.example.booksearch.domain.BookIndexOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 인덱싱 Outbox JPA Repository
+ */
+public interface BookIndexOutboxRepository extends JpaRepository<BookIndexOutbox, Long> {
+
+    /**
+     * 디스패치 대상 Outbox 레코드를 등록 순서대로 조회
+     *
+     * 보류된 레코드와 재시도 대기(백오프) 중인 레코드는 제외한다
+     * FOR UPDATE SKIP LOCKED로 잠그므로 여러 인스턴스가 동시에 디스패치해도
+     * 같은 레코드를 중복 처리하지 않는다 (lock.timeout -2 = SKIP LOCKED)
+     *
+     * @param now      현재 일시 (nextAttemptAt 비교 기준)
+     * @param pageable 조회 건수 (배치 크기)
+     * @return 잠금 획득한 Outbox 레코드 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM BookIndexOutbox o WHERE o.parkedAt IS NULL"
+            + " AND (o.nextAttemptAt IS NULL OR o.nextAttemptAt <= :now) ORDER BY o.id")
+    List<BookIndexOutbox> findNextBatch(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 가장 오래된 미처리 레코드의 등록 일시 조회 (지연 시간 측정용, 보류 레코드 제외)
+     *
+     * @return 가장 오래된 등록 일시, 대기 레코드가 없으면 null
+     */
+    @Query("SELECT MIN(o.createdAt) FROM BookIndexOutbox o WHERE o.parkedAt IS NULL")
+    LocalDateTime findOldestCreatedAt();
+
+    /**
+     * 디스패치 대기 레코드 수 (보류 레코드 제외)
+     *
+     * @return 대기 레코드 수
+     */
+    long countByParkedAtIsNull();
+
+    /**
+     * 보류된 레코드 수
+     *
+     * @return 보류 레코드 수
+     */
+    long countByParkedAtIsNotNull();
+}
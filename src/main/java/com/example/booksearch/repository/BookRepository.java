@@ -1,10 +1,14 @@
 package com.example.booksearch.repository;
 
 import com.example.booksearch.domain.Book;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +27,14 @@ public interface BookRepository extends JpaRepository<Book, Long> {
      */
     Optional<Book> findByIsbn(String isbn);
 
+    /**
+     * ISBN 목록 기반 도서 조회 (일괄 가져오기 후 인덱싱용)
+     *
+     * @param isbns 조회할 ISBN 목록
+     * @return 해당 ISBN의 도서 목록
+     */
+    List<Book> findByIsbnIn(Collection<String> isbns);
+
     /**
      * ISBN 존재 여부 확인
      *
@@ -40,6 +52,54 @@ public interface BookRepository extends JpaRepository<Book, Long> {
      */
     Page<Book> findByCategory(String category, Pageable pageable);
 
+    /**
+     * ID 기준 키셋 페이지 조회 (전체 재인덱싱 스트리밍용)
+     *
+     * OFFSET 없이 마지막으로 읽은 ID 이후만 조회하므로
+     * 페이지가 깊어져도 조회 비용이 일정하다
+     *
+     * @param id    이전 페이지의 마지막 도서 ID (첫 페이지는 0)
+     * @param limit 조회 건수
+     * @return ID 오름차순 도서 목록
+     */
+    List<Book> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * ID 역순 키셋 페이지 조회 (관리자 목록 커서 페이지네이션용)
+     *
+     * @param id    이전 페이지의 마지막 도서 ID (첫 페이지는 Long.MAX_VALUE)
+     * @param limit 조회 건수
+     * @return ID 내림차순 도서 목록
+     */
+    List<Book> findByIdLessThanOrderByIdDesc(Long id, Limit limit);
+
+    /**
+     * 기준 시각 이후 변경된 도서의 ID 기준 키셋 페이지 조회 (증분 재인덱싱용)
+     *
+     * @param id        이전 페이지의 마지막 도서 ID (첫 페이지는 0)
+     * @param updatedAt 변경 기준 시각 (이 시각 이후 수정된 도서만 조회)
+     * @param limit     조회 건수
+     * @return ID 오름차순 도서 목록
+     */
+    List<Book> findByIdGreaterThanAndUpdatedAtGreaterThanEqualOrderByIdAsc(Long id, LocalDateTime updatedAt, Limit limit);
+
+    /**
+     * 제목/저자/소개 부분 일치 검색 ID 역순 키셋 페이지 조회 (PostgreSQL 검색 엔진용)
+     *
+     * LOWER(컬럼) LIKE '%키워드%'는 pg_trgm GIN 인덱스(V2 마이그레이션)로 처리된다
+     *
+     * @param pattern 소문자 LIKE 패턴 (%, _는 \로 이스케이프)
+     * @param id      이전 페이지의 마지막 도서 ID (첫 페이지는 Long.MAX_VALUE)
+     * @param limit   조회 건수
+     * @return ID 내림차순 도서 목록
+     */
+    @org.springframework.data.jpa.repository.Query("SELECT b FROM Book b WHERE b.id < :id"
+            + " AND (LOWER(b.title) LIKE :pattern ESCAPE '\\'"
+            + " OR LOWER(b.author) LIKE :pattern ESCAPE '\\'"
+            + " OR LOWER(b.description) LIKE :pattern ESCAPE '\\')"
+            + " ORDER BY b.id DESC")
+    List<Book> searchByKeyword(@Param("pattern") String pattern, @Param("id") Long id, Limit limit);
+
     /**
      * 전체 카테고리 목록 중복 제거 조회
      *
@@ -47,4 +107,21 @@ public interface BookRepository extends JpaRepository<Book, Long> {
      */
     @org.springframework.data.jpa.repository.Query("SELECT DISTINCT b.category FROM Book b WHERE b.category IS NOT NULL ORDER BY b.category")
     List<String> findDistinctCategories();
+
+    /**
+     * 전체 도서 중 최대 수정 일시 조회 (동기화 watermark 기준)
+     *
+     * @return 최대 수정 일시, 도서가 없으면 null
+     */
+    @org.springframework.data.jpa.repository.Query("SELECT MAX(b.updatedAt) FROM Book b")
+    LocalDateTime findMaxUpdatedAt();
+
+    /**
+     * 주어진 ID 중 DB에 존재하는 도서 ID만 조회 (인덱스 삭제 누락 탐지용)
+     *
+     * @param ids 확인할 도서 ID 목록
+     * @return 존재하는 도서 ID 목록
+     */
+    @org.springframework.data.jpa.repository.Query("SELECT b.id FROM Book b WHERE b.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
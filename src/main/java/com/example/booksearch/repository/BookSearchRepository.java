@@ -12,7 +12,7 @@ import java.util.List;
  *
  * Spring Data의 메서드 이름 기반 쿼리 자동 생성 활용
  * 단순 조건 검색용이며, 복합 검색(multi_match, bool, aggregation)은
- * BookIndexService에서 ElasticsearchOperations로 직접 처리
+ * BookIndexService에서 OpenSearchClient 타입 기반 DSL로 직접 처리 (BookSearchQueries)
  */
 public interface BookSearchRepository extends ElasticsearchRepository<BookDocument, Long> {
 
@@ -0,0 +1,10 @@
+package com.example.booksearch.repository;
+
+import com.example.booksearch.domain.IndexSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 인덱스 동기화 상태 JPA Repository
+ */
+public interface IndexSyncStateRepository extends JpaRepository<IndexSyncState, String> {
+}
@@ -0,0 +1,129 @@
+package com.example.booksearch.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caffeine 캐시 적재 헬퍼 (가상 스레드 pinning 방지)
+ *
+ * Cache.get(key, loader)는 ConcurrentHashMap.compute의 synchronized 블록 안에서 loader를 실행하므로
+ * loader가 DB/OpenSearch 응답을 기다리는 동안 가상 스레드가 캐리어 스레드에 고정된다
+ * 여기서는 미완료 future만 원자적으로 등록하고 loader는 잠금 밖의 호출 스레드에서 실행한다
+ * 같은 키의 동시 미스는 여전히 한 번만 적재하며, 나머지 호출은 future 완료를 기다린다
+ * deadline을 받은 호출은 다른 요청의 적재를 기다릴 때도 자기 deadline까지만 기다린다
+ */
+final class AsyncCacheLoader {
+
+    private AsyncCacheLoader() {
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 적재
+     *
+     * loader가 예외를 던지면 캐시하지 않고 그대로 전파하며, 같은 키를 기다리던 호출도 같은 예외를 받는다
+     * loader가 null을 반환하면 캐시하지 않는다
+     *
+     * @param cache  대상 캐시
+     * @param key    캐시 키
+     * @param loader 적재 함수
+     * @return 캐시된 값 또는 적재한 값
+     */
+    static <K, V> V get(AsyncCache<K, V> cache, K key, Supplier<V> loader) {
+        return get(cache, key, loader, null, null);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 적재 (무효화 세대 확인)
+     *
+     * 적재 중에 generation이 바뀌었으면(무효화 발생) 적재한 값을 캐시에서 제거한다
+     * 무효화 이전에 읽은 값일 수 있으므로, 이미 기다리던 호출에만 전달하고 이후 조회는 다시 적재한다
+     * 무효화하는 쪽은 generation을 먼저 올린 뒤 캐시를 비워야 한다
+     *
+     * @param cache      대상 캐시
+     * @param key        캐시 키
+     * @param loader     적재 함수
+     * @param generation 무효화 세대 (null이면 확인하지 않음)
+     * @return 캐시된 값 또는 적재한 값
+     */
+    static <K, V> V get(AsyncCache<K, V> cache, K key, Supplier<V> loader, AtomicLong generation) {
+        return get(cache, key, loader, generation, null);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 적재 (검색 deadline 적용)
+     *
+     * 같은 키를 먼저 적재 중인 호출이 있으면 그 결과를 deadline까지만 기다린다
+     * 기다리다 deadline을 넘겨도 진행 중인 적재는 취소하지 않는다 (다른 호출이 같은 결과를 기다릴 수 있음)
+     *
+     * @param cache    대상 캐시
+     * @param key      캐시 키
+     * @param loader   적재 함수
+     * @param deadline 요청 deadline
+     * @return 캐시된 값 또는 적재한 값
+     * @throws SearchTimeoutException deadline 안에 다른 호출의 적재가 끝나지 않았을 경우
+     */
+    static <K, V> V get(AsyncCache<K, V> cache, K key, Supplier<V> loader, SearchDeadline deadline) {
+        return get(cache, key, loader, null, deadline);
+    }
+
+    private static <K, V> V get(AsyncCache<K, V> cache, K key, Supplier<V> loader, AtomicLong generation,
+                                SearchDeadline deadline) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> created);
+        if (future == created) {
+            long startGeneration = generation != null ? generation.get() : 0;
+            try {
+                V value = loader.get();
+                if (generation != null && generation.get() != startGeneration) {
+                    // 완료 전에 제거해야 새 조회가 무효화 이전 값을 받지 않는다
+                    cache.asMap().remove(key, created);
+                }
+                created.complete(value);
+            } catch (RuntimeException | Error e) {
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        if (deadline != null) {
+            return await(future, deadline);
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> future, SearchDeadline deadline) {
+        try {
+            return future.get(deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new SearchTimeoutException("검색 deadline 초과: 같은 검색의 캐시 적재 대기");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SearchTimeoutException("캐시 적재 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
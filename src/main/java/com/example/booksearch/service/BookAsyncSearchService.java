@@ -0,0 +1,88 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.dto.BookFacetSearchResponse;
+import com.example.booksearch.dto.BookSearchCondition;
+import com.example.booksearch.dto.BookSearchPageResponse;
+import com.example.booksearch.dto.BookSuggestion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import org.opensearch.client.opensearch._types.aggregations.Aggregate;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 도서 검색 서비스 (OpenSearchAsyncClient)
+ *
+ * 요청 스레드가 OpenSearch 응답을 기다리지 않으므로 스레드 수와 무관하게 많은 검색을 동시에 진행할 수 있다
+ * 검색 화면 한 페이지에 필요한 결과, 패싯, 자동완성 제안을 동시에 보내고 모두 끝나면 합친다
+ * <ul>
+ *   <li>결과 - 조건 검색 (aggregation 없음), 실패하면 전체 실패</li>
+ *   <li>패싯 - size 0 집계 요청, 실패하면 빈 패싯</li>
+ *   <li>제안 - BookSuggestService 자동완성, 실패하면 빈 목록</li>
+ * </ul>
+ * BookSearchCache를 거치지 않으며, 패싯 요청은 샤드 request cache로 캐시된다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookAsyncSearchService {
+
+    @SuppressWarnings("unchecked")
+    private static final Class<Map<String, Object>> SOURCE_TYPE = (Class<Map<String, Object>>) (Class<?>) Map.class;
+
+    private final OpenSearchAsyncClient openSearchAsyncClient;
+    private final BookIndexService bookIndexService;
+    private final BookSuggestService bookSuggestService;
+    private final OpenSearchMetrics openSearchMetrics;
+
+    /**
+     * 검색 화면 한 페이지 조회
+     *
+     * @param condition 검색 조건
+     * @param pageable  페이지 및 정렬 정보
+     * @return 검색 결과, 패싯, 제안 (결과 검색 실패 시 예외로 완료)
+     */
+    public CompletableFuture<BookSearchPageResponse> searchPage(BookSearchCondition condition, Pageable pageable) {
+        TotalHitsPolicy policy = bookIndexService.totalHitsPolicy();
+
+        CompletableFuture<SearchResponse<Map<String, Object>>> hits = search("search",
+                BookSearchQueries.filteredSearch(BookIndexService.INDEX_NAME, condition, pageable, policy));
+        CompletableFuture<Map<String, Aggregate>> facets = search("facet",
+                BookSearchQueries.facetCounts(BookIndexService.INDEX_NAME, condition))
+                .thenApply(SearchResponse::aggregations)
+                .exceptionally(e -> {
+                    log.warn("패싯 조회 실패, 빈 패싯으로 응답: {}", e.getMessage());
+                    return Map.of();
+                });
+        CompletableFuture<List<BookSuggestion>> suggestions = suggest(condition);
+
+        return CompletableFuture.allOf(hits, facets, suggestions).thenApply(ignored -> {
+            BookFacetSearchResponse search = bookIndexService.toFacetSearchResponse(
+                    hits.join(), facets.join(), pageable, policy);
+            return new BookSearchPageResponse(search, suggestions.join());
+        });
+    }
+
+    private CompletableFuture<List<BookSuggestion>> suggest(BookSearchCondition condition) {
+        if (!condition.hasKeyword()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        return bookSuggestService.suggest(condition.getKeyword(), null, 0)
+                .exceptionally(e -> {
+                    log.warn("자동완성 조회 실패, 빈 제안으로 응답: {}", e.getMessage());
+                    return List.of();
+                });
+    }
+
+    private CompletableFuture<SearchResponse<Map<String, Object>>> search(String operation, SearchRequest request) {
+        return openSearchMetrics.recordAsync(operation,
+                () -> openSearchAsyncClient.search(request, SOURCE_TYPE), SearchResponse::took);
+    }
+}
@@ -0,0 +1,371 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.BookDocument;
+import com.example.booksearch.dto.BulkIndexResult;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 병렬 벌크 인덱싱 엔진
+ *
+ * 문서 수가 아닌 직렬화 크기(bytes, 필드 길이로 추정) 기준으로 벌크 요청을 나누고,
+ * 최대 N개의 벌크 요청을 동시에 전송한다
+ *
+ * <ul>
+ *   <li>백프레셔: 동시 요청 수가 한도에 도달하면 문서를 추가하는 호출자 스레드가 대기한다</li>
+ *   <li>재시도: 429 / rejected_execution_exception 응답은 지수 백오프 후 재전송하며,
+ *       벌크 응답 중 실패한 문서만 골라 다시 보낸다</li>
+ *   <li>실패 보고: 재시도 불가 또는 재시도 초과 문서는 BulkIndexResult에 문서 단위로 기록한다</li>
+ *   <li>계측: 요청마다 액션 수/크기, 왕복 시간/took, 문서 단위 실패를 OpenSearchMetrics로 기록한다</li>
+ * </ul>
+ *
+ * 사용법: {@code open(index)}로 세션을 열고 index()/delete()로 문서를 추가한 뒤 finish()로 결과를 받는다
+ */
+@Slf4j
+@Service
+public class BookBulkIndexer {
+
+    /** 벌크 액션 메타데이터 라인 크기 추정치 */
+    private static final int ACTION_METADATA_BYTES = 64;
+
+    /** 요청 단위 실패 시 문서 상태 코드 대신 사용하는 값 */
+    private static final int REQUEST_FAILURE_STATUS = 0;
+
+    private final OpenSearchClient openSearchClient;
+    private final ElasticsearchConverter elasticsearchConverter;
+    private final TaskExecutor bulkIndexExecutor;
+    private final OpenSearchMetrics openSearchMetrics;
+
+    /** 벌크 요청 1건의 최대 크기 (bytes) */
+    private final long maxRequestBytes;
+
+    /** 벌크 요청 1건의 최대 액션 수 */
+    private final int maxRequestActions;
+
+    /** 세션당 동시 전송 벌크 요청 수 */
+    private final int concurrency;
+
+    /** 429 재시도 최대 횟수 */
+    private final int maxRetries;
+
+    /** 첫 재시도 대기 시간 (이후 2배씩 증가) */
+    private final long initialBackoffMillis;
+
+    /** 결과에 보관할 실패 상세 최대 건수 */
+    private final int maxReportedFailures;
+
+    public BookBulkIndexer(OpenSearchClient openSearchClient,
+                           ElasticsearchOperations elasticsearchOperations,
+                           @Qualifier("bulkIndexExecutor") TaskExecutor bulkIndexExecutor,
+                           OpenSearchMetrics openSearchMetrics,
+                           @Value("${book.index.bulk.max-request-bytes:5242880}") long maxRequestBytes,
+                           @Value("${book.index.bulk.max-request-actions:1000}") int maxRequestActions,
+                           @Value("${book.index.bulk.concurrency:4}") int concurrency,
+                           @Value("${book.index.bulk.max-retries:5}") int maxRetries,
+                           @Value("${book.index.bulk.initial-backoff-ms:100}") long initialBackoffMillis,
+                           @Value("${book.index.bulk.max-reported-failures:1000}") int maxReportedFailures) {
+        this.openSearchClient = openSearchClient;
+        this.elasticsearchConverter = elasticsearchOperations.getElasticsearchConverter();
+        this.bulkIndexExecutor = bulkIndexExecutor;
+        this.openSearchMetrics = openSearchMetrics;
+        this.maxRequestBytes = maxRequestBytes;
+        this.maxRequestActions = maxRequestActions;
+        this.concurrency = concurrency;
+        this.maxRetries = maxRetries;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxReportedFailures = maxReportedFailures;
+    }
+
+    /**
+     * 벌크 인덱싱 세션 시작
+     *
+     * @param indexName 대상 인덱스 (또는 alias)
+     * @return 문서를 추가할 세션
+     */
+    public Session open(String indexName) {
+        return new Session(indexName);
+    }
+
+    /**
+     * 전송 대기 중인 벌크 액션
+     *
+     * @param id        문서 ID
+     * @param operation 벌크 액션
+     * @param bytes     직렬화 크기 추정치
+     */
+    private record PendingOperation(String id, BulkOperation operation, long bytes) {
+    }
+
+    /**
+     * 하나의 벌크 인덱싱 작업 단위
+     *
+     * 문서 추가는 단일 스레드(호출자)에서 수행해야 하며,
+     * 전송과 재시도는 bulkIndexExecutor 워커에서 병렬로 처리된다
+     */
+    public final class Session {
+
+        private final String indexName;
+        private final Semaphore inFlight = new Semaphore(concurrency);
+        private final AtomicLong succeeded = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicInteger reportedFailures = new AtomicInteger();
+        private final Queue<BulkIndexResult.ItemFailure> failures = new ConcurrentLinkedQueue<>();
+
+        private List<PendingOperation> buffer = new ArrayList<>();
+        private long bufferBytes;
+
+        private Session(String indexName) {
+            this.indexName = indexName;
+        }
+
+        /**
+         * 문서 인덱싱(upsert) 액션 추가
+         *
+         * @param document 인덱싱할 문서
+         */
+        public void index(BookDocument document) {
+            String id = String.valueOf(document.getId());
+            Document source = elasticsearchConverter.mapObject(document);
+            Map<String, Object> body = new LinkedHashMap<>(source);
+            // 문서는 전송 시 클라이언트가 한 번만 직렬화하므로 크기는 필드 값으로 추정한다
+            long bytes = estimateJsonBytes(body) + ACTION_METADATA_BYTES;
+
+            add(new PendingOperation(id,
+                    BulkOperation.of(b -> b.index(i -> i.index(indexName).id(id).document(body))),
+                    bytes));
+        }
+
+        /**
+         * 문서 삭제 액션 추가
+         *
+         * @param bookId 삭제할 도서 ID
+         */
+        public void delete(Long bookId) {
+            String id = String.valueOf(bookId);
+            add(new PendingOperation(id,
+                    BulkOperation.of(b -> b.delete(d -> d.index(indexName).id(id))),
+                    ACTION_METADATA_BYTES));
+        }
+
+        /**
+         * 남은 액션을 전송하고 모든 요청이 끝날 때까지 대기
+         *
+         * @return 벌크 인덱싱 결과
+         */
+        public BulkIndexResult finish() {
+            flush();
+            inFlight.acquireUninterruptibly(concurrency);
+            inFlight.release(concurrency);
+            return new BulkIndexResult(succeeded.get(), failed.get(), List.copyOf(failures));
+        }
+
+        private void add(PendingOperation operation) {
+            if (!buffer.isEmpty() && bufferBytes + operation.bytes() > maxRequestBytes) {
+                flush();
+            }
+            buffer.add(operation);
+            bufferBytes += operation.bytes();
+            if (buffer.size() >= maxRequestActions) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            List<PendingOperation> request = buffer;
+            buffer = new ArrayList<>();
+            bufferBytes = 0;
+
+            // 동시 요청 수가 한도에 도달하면 여기서 호출자가 대기한다 (백프레셔)
+            inFlight.acquireUninterruptibly();
+            try {
+                bulkIndexExecutor.execute(() -> {
+                    try {
+                        sendWithRetry(request);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                inFlight.release();
+                failAll(request, e.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+
+        private void sendWithRetry(List<PendingOperation> operations) {
+            List<PendingOperation> pending = operations;
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    pending = send(pending, attempt < maxRetries);
+                } catch (OpenSearchException e) {
+                    if (!isRejected(e.status(), e.error().type()) || attempt >= maxRetries) {
+                        failAll(pending, e.error().type(), e.error().reason());
+                        return;
+                    }
+                } catch (IOException | RuntimeException e) {
+                    if (attempt >= maxRetries) {
+                        failAll(pending, e.getClass().getSimpleName(), e.getMessage());
+                        return;
+                    }
+                }
+
+                if (pending.isEmpty()) {
+                    return;
+                }
+
+                long backoff = initialBackoffMillis << Math.min(attempt, 16);
+                log.debug("벌크 요청 재시도 대기: {}건, attempt={}, backoff={}ms", pending.size(), attempt + 1, backoff);
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failAll(pending, "interrupted", "벌크 재시도 대기 중 인터럽트");
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 벌크 요청 1회 전송
+         *
+         * @param operations 전송할 액션 목록
+         * @param retryable  재시도 가능 여부 (false면 429도 최종 실패로 기록)
+         * @return 재시도가 필요한 액션 목록
+         */
+        private List<PendingOperation> send(List<PendingOperation> operations, boolean retryable) throws IOException {
+            BulkRequest request = BulkRequest.of(r -> r.operations(operations.stream()
+                    .map(PendingOperation::operation)
+                    .toList()));
+            openSearchMetrics.recordBulkRequest(operations.size(),
+                    operations.stream().mapToLong(PendingOperation::bytes).sum());
+            BulkResponse response = openSearchMetrics.record("bulk",
+                    () -> openSearchClient.bulk(request), BulkResponse::took);
+
+            if (!response.errors()) {
+                succeeded.addAndGet(operations.size());
+                return List.of();
+            }
+
+            List<PendingOperation> retry = new ArrayList<>();
+            List<BulkResponseItem> items = response.items();
+            for (int i = 0; i < items.size(); i++) {
+                BulkResponseItem item = items.get(i);
+                PendingOperation operation = operations.get(i);
+                if (item.error() == null) {
+                    succeeded.incrementAndGet();
+                    continue;
+                }
+                openSearchMetrics.recordBulkItemFailure(item.error().type());
+                if (retryable && isRejected(item.status(), item.error().type())) {
+                    retry.add(operation);
+                } else {
+                    recordFailure(new BulkIndexResult.ItemFailure(
+                            operation.id(), item.status(), item.error().type(), item.error().reason()));
+                }
+            }
+            return retry;
+        }
+
+        private void failAll(List<PendingOperation> operations, String type, String reason) {
+            log.warn("벌크 요청 실패: {}건, type={}, reason={}", operations.size(), type, reason);
+            for (PendingOperation operation : operations) {
+                recordFailure(new BulkIndexResult.ItemFailure(operation.id(), REQUEST_FAILURE_STATUS, type, reason));
+            }
+        }
+
+        private void recordFailure(BulkIndexResult.ItemFailure failure) {
+            failed.incrementAndGet();
+            if (reportedFailures.incrementAndGet() <= maxReportedFailures) {
+                failures.add(failure);
+            }
+        }
+    }
+
+    /**
+     * 문서 JSON 직렬화 크기 추정 (직렬화 없이 필드 이름/값 길이로 계산)
+     *
+     * 문자열은 UTF-8 바이트 수, 숫자/날짜 등은 문자열 표현 길이로 세며
+     * 따옴표/콜론/쉼표 등 구분자는 필드당 고정 바이트로 더한다 (이스케이프 문자는 무시)
+     *
+     * @param value 문서 필드 값 (Map, Collection, 문자열, 숫자 등)
+     * @return 추정 크기 (bytes)
+     */
+    static long estimateJsonBytes(Object value) {
+        if (value == null) {
+            return 4;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long bytes = 2;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                bytes += utf8Length(String.valueOf(entry.getKey())) + 4 + estimateJsonBytes(entry.getValue());
+            }
+            return bytes;
+        }
+        if (value instanceof Collection<?> collection) {
+            long bytes = 2;
+            for (Object element : collection) {
+                bytes += estimateJsonBytes(element) + 1;
+            }
+            return bytes;
+        }
+        if (value instanceof CharSequence text) {
+            return utf8Length(text) + 2;
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString().length();
+        }
+        // 날짜 등 문자열로 직렬화되는 값
+        return utf8Length(value.toString()) + 2;
+    }
+
+    private static long utf8Length(CharSequence text) {
+        long bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 클러스터 과부하로 인한 거절 여부 (재시도 대상)
+     */
+    private static boolean isRejected(int status, String errorType) {
+        return status == 429 || (errorType != null && errorType.endsWith("rejected_execution_exception"));
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.Book;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 도서 엔티티 read-through near cache (Caffeine)
+ *
+ * 관리자 화면에서 반복되는 PostgreSQL 조회를 줄이기 위해 다음을 캐시한다
+ * <ul>
+ *   <li>ID → 도서 (수정 폼 조회)</li>
+ *   <li>ISBN → 도서 ID (ID 캐시를 거쳐 도서 조회)</li>
+ *   <li>카테고리 목록 (대시보드의 SELECT DISTINCT)</li>
+ * </ul>
+ *
+ * 캐시된 도서는 영속성 컨텍스트와 분리된(detached) 읽기 전용 인스턴스이므로
+ * 수정/삭제는 반드시 Repository에서 다시 읽은 엔티티로 수행해야 한다
+ * BookService 변경 메서드가 트랜잭션 커밋 후 해당 도서와 카테고리 목록을 무효화하며,
+ * 다른 경로로 변경된 데이터는 TTL 경과 후 만료된다
+ * 존재하지 않는 ID/ISBN은 캐시하지 않는다
+ * 무효화와 겹친 DB 조회 결과는 변경 전 값일 수 있으므로 캐시에 남기지 않는다 (무효화 세대 확인)
+ * DB 조회는 캐시 잠금 밖에서 실행하여 가상 스레드가 캐리어에 고정되지 않게 한다 (AsyncCacheLoader)
+ *
+ * 메트릭은 cache.gets 등 (cache=book.entity, book.isbn, book.categories)으로 노출된다
+ */
+@Component
+public class BookEntityCache {
+
+    /** 카테고리 목록 캐시 키 (단일 엔트리) */
+    private static final String CATEGORIES_KEY = "all";
+
+    private final AsyncCache<Long, Book> booksById;
+    private final AsyncCache<String, Long> bookIdsByIsbn;
+    private final AsyncCache<String, List<String>> categories;
+
+    /** 무효화 세대 (무효화마다 증가, 적재 중 바뀌면 적재 결과를 캐시하지 않음) */
+    private final AtomicLong generation = new AtomicLong();
+
+    public BookEntityCache(MeterRegistry meterRegistry,
+                           @Value("${book.entity-cache.max-size:10000}") long maxSize,
+                           @Value("${book.entity-cache.ttl:PT10M}") Duration ttl) {
+        this.booksById = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        this.bookIdsByIsbn = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        this.categories = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, booksById.synchronous(), "book.entity");
+        CaffeineCacheMetrics.monitor(meterRegistry, bookIdsByIsbn.synchronous(), "book.isbn");
+        CaffeineCacheMetrics.monitor(meterRegistry, categories.synchronous(), "book.categories");
+    }
+
+    /**
+     * ID로 도서 조회 (캐시 미스 시 loader로 조회 후 저장)
+     *
+     * @param id     도서 ID
+     * @param loader DB 조회 함수
+     * @return 도서, 없으면 empty
+     */
+    public Optional<Book> getById(Long id, Function<Long, Optional<Book>> loader) {
+        return Optional.ofNullable(AsyncCacheLoader.get(booksById, id, () -> loader.apply(id).orElse(null),
+                generation));
+    }
+
+    /**
+     * ISBN으로 도서 조회 (ISBN → ID 매핑 후 ID 캐시 사용)
+     *
+     * @param isbn   ISBN
+     * @param loader DB 조회 함수
+     * @return 도서, 없으면 empty
+     */
+    public Optional<Book> getByIsbn(String isbn, Function<String, Optional<Book>> loader) {
+        Long id = bookIdsByIsbn.synchronous().getIfPresent(isbn);
+        if (id != null) {
+            Book cached = booksById.synchronous().getIfPresent(id);
+            if (cached != null && Objects.equals(cached.getIsbn(), isbn)) {
+                return Optional.of(cached);
+            }
+        }
+
+        long startGeneration = generation.get();
+        Optional<Book> loaded = loader.apply(isbn);
+        loaded.ifPresent(book -> {
+            booksById.synchronous().put(book.getId(), book);
+            bookIdsByIsbn.synchronous().put(isbn, book.getId());
+            if (generation.get() != startGeneration) {
+                // 조회 중 무효화되었으면 방금 넣은 값이 변경 전 값일 수 있음
+                booksById.synchronous().invalidate(book.getId());
+                bookIdsByIsbn.synchronous().invalidate(isbn);
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * 카테고리 목록 조회 (캐시 미스 시 loader로 조회 후 저장)
+     *
+     * @param loader DB 조회 함수
+     * @return 카테고리 목록 (불변)
+     */
+    public List<String> getCategories(Supplier<List<String>> loader) {
+        return AsyncCacheLoader.get(categories, CATEGORIES_KEY, () -> List.copyOf(loader.get()), generation);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 도서와 카테고리 목록 무효화
+     *
+     * 트랜잭션이 없으면 바로 무효화한다
+     *
+     * @param id    변경된 도서 ID (등록 시 null 가능)
+     * @param isbns 변경 전후 ISBN (null 허용)
+     */
+    public void invalidateAfterCommit(Long id, Collection<String> isbns) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(id, isbns);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(id, isbns);
+            }
+        });
+    }
+
+    /**
+     * 전체 도서와 카테고리 목록 무효화 (일괄 가져오기 후)
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        booksById.synchronous().invalidateAll();
+        bookIdsByIsbn.synchronous().invalidateAll();
+        categories.synchronous().invalidateAll();
+    }
+
+    private void invalidate(Long id, Collection<String> isbns) {
+        generation.incrementAndGet();
+        if (id != null) {
+            booksById.synchronous().invalidate(id);
+        }
+        isbns.stream().filter(Objects::nonNull).forEach(bookIdsByIsbn.synchronous()::invalidate);
+        categories.synchronous().invalidateAll();
+    }
+}
@@ -0,0 +1,373 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.domain.BookDocument;
+import com.example.booksearch.domain.BookIndexOutbox;
+import com.example.booksearch.dto.BookImportResult;
+import com.example.booksearch.dto.BookRequestDto;
+import com.example.booksearch.dto.BulkIndexResult;
+import com.example.booksearch.repository.BookIndexOutboxRepository;
+import com.example.booksearch.repository.BookRepository;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 도서 카탈로그 일괄 가져오기 서비스 (CSV / JSON 스트리밍)
+ *
+ * 입력을 한 행씩 읽어 검증하고, batch-size 행마다
+ * <ol>
+ *   <li>JDBC 배치 INSERT ... ON CONFLICT (isbn) DO UPDATE로 books에 upsert (배치당 한 트랜잭션)</li>
+ *   <li>커밋된 행을 ISBN으로 다시 읽어 BookBulkIndexer 세션에 전달</li>
+ * </ol>
+ * 한 번에 한 배치와 전송 중인 벌크 요청만 메모리에 유지하므로 입력 크기와 무관하게 힙 사용량이 일정하다
+ * (벌크 동시 요청이 가득 차면 입력 읽기도 대기)
+ *
+ * 엔티티를 영속성 컨텍스트에 올리지 않고, ID는 Hibernate와 같은 pooled-lo 규칙으로
+ * 시퀀스에서 Book.ID_ALLOCATION_SIZE개씩 배치 단위로 할당하며, 건별 Outbox 대신 같은 파이프라인에서 벌크 인덱싱한다
+ * 인덱싱에 실패한 문서만 Outbox에 등록해 디스패처가 재시도하게 한다
+ *
+ * 검증 규칙: title, author, isbn 필수, price/stockQuantity는 0 이상
+ * 검증/파싱에 실패한 행은 건너뛰고 줄 번호와 사유를 결과에 남긴다 (입력 구조 자체가 깨지면 중단)
+ */
+@Slf4j
+@Service
+public class BookImportService {
+
+    /** 진행 상황 로그 출력 간격 */
+    private static final long PROGRESS_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    /** 문자열 컬럼 최대 길이 (VARCHAR(255)) */
+    private static final int MAX_VARCHAR_LENGTH = 255;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO books (id, title, author, publisher, description, isbn, price, published_date,
+                               category, stock_quantity, cover_image_url, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (isbn) DO UPDATE SET
+                title = EXCLUDED.title,
+                author = EXCLUDED.author,
+                publisher = EXCLUDED.publisher,
+                description = EXCLUDED.description,
+                price = EXCLUDED.price,
+                published_date = EXCLUDED.published_date,
+                category = EXCLUDED.category,
+                stock_quantity = EXCLUDED.stock_quantity,
+                cover_image_url = EXCLUDED.cover_image_url,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    /** 할당 구간 시작 값 여러 개를 한 번에 조회 (구간마다 Book.ID_ALLOCATION_SIZE개 ID) */
+    private static final String ALLOCATE_IDS_SQL =
+            "SELECT nextval('" + Book.ID_SEQUENCE + "') FROM generate_series(1, ?)";
+
+    /**
+     * 입력 형식
+     */
+    public enum Format {
+        /** 헤더 행에 BookRequestDto 필드명을 쓰는 CSV */
+        CSV,
+        /** BookRequestDto 객체의 JSON 배열 (data/books.json과 같은 형식) */
+        JSON
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BookRepository bookRepository;
+    private final BookIndexOutboxRepository bookIndexOutboxRepository;
+    private final BookBulkIndexer bookBulkIndexer;
+    private final BookIndexService bookIndexService;
+    private final BookSearchCache bookSearchCache;
+    private final BookEntityCache bookEntityCache;
+    private final ObjectReader jsonReader;
+    private final ObjectReader csvReader;
+
+    /** 한 번에 upsert/인덱싱할 행 수 */
+    private final int batchSize;
+
+    /** 결과에 보관할 건너뛴 행 상세 최대 건수 */
+    private final int maxReportedRejections;
+
+    public BookImportService(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             BookRepository bookRepository,
+                             BookIndexOutboxRepository bookIndexOutboxRepository,
+                             BookBulkIndexer bookBulkIndexer,
+                             BookIndexService bookIndexService,
+                             BookSearchCache bookSearchCache,
+                             BookEntityCache bookEntityCache,
+                             ObjectMapper objectMapper,
+                             @Value("${book.import.batch-size:1000}") int batchSize,
+                             @Value("${book.import.max-reported-rejections:100}") int maxReportedRejections) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bookRepository = bookRepository;
+        this.bookIndexOutboxRepository = bookIndexOutboxRepository;
+        this.bookBulkIndexer = bookBulkIndexer;
+        this.bookIndexService = bookIndexService;
+        this.bookSearchCache = bookSearchCache;
+        this.bookEntityCache = bookEntityCache;
+        this.batchSize = batchSize;
+        this.maxReportedRejections = maxReportedRejections;
+
+        this.jsonReader = objectMapper.readerFor(BookRequestDto.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        CsvMapper csvMapper = CsvMapper.builder()
+                .addModule(new JavaTimeModule())
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        this.csvReader = csvMapper.readerFor(BookRequestDto.class)
+                .with(CsvSchema.emptySchema().withHeader());
+    }
+
+    /**
+     * 카탈로그 일괄 가져오기 (서비스 중인 인덱스)
+     *
+     * 검색에 쓰이는 인덱스이므로 벌크 적재 모드(refresh 중지, 레플리카 축소, translog 비동기)로 바꾸지 않고
+     * 평소 설정 그대로 인덱싱한다 (가져오는 동안에도 결과가 refresh 주기마다 검색에 반영됨)
+     *
+     * @param input  입력 스트림 (호출자가 닫는다)
+     * @param format 입력 형식
+     * @return 가져오기 결과
+     * @throws UncheckedIOException 입력을 읽을 수 없거나 구조가 깨진 경우 (그 전까지 처리한 배치는 반영된 상태)
+     */
+    public BookImportResult importCatalogue(InputStream input, Format format) {
+        return importInto(input, format);
+    }
+
+    /**
+     * 초기 카탈로그 가져오기 (bootstrap 전용, 벌크 적재 모드)
+     *
+     * 인덱스가 아직 검색에 쓰이지 않는 bootstrap 단계에서만 사용한다
+     *
+     * @param input  입력 스트림 (호출자가 닫는다)
+     * @param format 입력 형식
+     * @return 가져오기 결과
+     * @throws UncheckedIOException 입력을 읽을 수 없거나 구조가 깨진 경우 (그 전까지 처리한 배치는 반영된 상태)
+     */
+    public BookImportResult importInitialCatalogue(InputStream input, Format format) {
+        return bookIndexService.runInBulkLoadMode(BookIndexService.INDEX_NAME, () -> importInto(input, format));
+    }
+
+    private BookImportResult importInto(InputStream input, Format format) {
+        ObjectReader reader = format == Format.CSV ? csvReader : jsonReader;
+        try (MappingIterator<BookRequestDto> rows = reader.readValues(input)) {
+            return importRows(rows);
+        } catch (IOException e) {
+            throw new UncheckedIOException("도서 카탈로그를 읽을 수 없습니다: " + e.getMessage(), e);
+        } finally {
+            bookSearchCache.invalidateAll();
+            bookEntityCache.invalidateAll();
+        }
+    }
+
+    private BookImportResult importRows(MappingIterator<BookRequestDto> rows) throws IOException {
+        long startedAt = System.nanoTime();
+        long lastLoggedAt = startedAt;
+        long read = 0;
+        long upserted = 0;
+        long rejected = 0;
+        List<BookImportResult.Rejection> rejections = new ArrayList<>();
+        // 같은 배치 안의 중복 ISBN은 마지막 행만 반영
+        Map<String, BookRequestDto> batch = new LinkedHashMap<>();
+        BookBulkIndexer.Session session = bookBulkIndexer.open(BookIndexService.INDEX_NAME);
+
+        try {
+            while (rows.hasNextValue()) {
+                long line = rows.getCurrentLocation().getLineNr();
+                read++;
+                String error;
+                BookRequestDto row = null;
+                try {
+                    row = rows.nextValue();
+                    error = validate(row);
+                } catch (JsonParseException e) {
+                    // 입력 구조가 깨지면 이후 행 경계를 신뢰할 수 없으므로 중단
+                    throw e;
+                } catch (IOException | RuntimeException e) {
+                    error = e.getMessage();
+                }
+
+                if (error != null) {
+                    rejected++;
+                    if (rejections.size() < maxReportedRejections) {
+                        rejections.add(new BookImportResult.Rejection(line, error));
+                    }
+                    continue;
+                }
+
+                batch.put(row.getIsbn().strip(), row);
+                if (batch.size() >= batchSize) {
+                    upserted += writeBatch(batch, session);
+                    batch.clear();
+                }
+
+                long now = System.nanoTime();
+                if (now - lastLoggedAt >= PROGRESS_LOG_INTERVAL_NANOS) {
+                    log.info("도서 가져오기 진행: 읽음 {}건, 저장 {}건, 건너뜀 {}건, {} rows/s",
+                            read, upserted, rejected, throughput(read, now - startedAt));
+                    lastLoggedAt = now;
+                }
+            }
+            if (!batch.isEmpty()) {
+                upserted += writeBatch(batch, session);
+            }
+        } catch (IOException | RuntimeException e) {
+            // 중단되어도 이미 커밋된 배치는 전송을 마치고 인덱싱 실패 문서를 Outbox에 남긴다
+            try {
+                requeueFailures(session.finish());
+            } catch (RuntimeException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        BulkIndexResult indexing = session.finish();
+        requeueFailures(indexing);
+
+        long elapsed = System.nanoTime() - startedAt;
+        log.info("도서 가져오기 완료: 읽음 {}건, 저장 {}건, 건너뜀 {}건, 인덱싱 성공 {}건 / 실패 {}건, {}ms, {} rows/s",
+                read, upserted, rejected, indexing.succeeded(), indexing.failed(),
+                TimeUnit.NANOSECONDS.toMillis(elapsed), throughput(read, elapsed));
+        return new BookImportResult(read, upserted, rejected, indexing.succeeded(), indexing.failed(),
+                List.copyOf(rejections));
+    }
+
+    /**
+     * 배치 upsert 후 저장된 도서를 벌크 인덱싱 세션에 추가
+     *
+     * @return upsert한 행 수
+     */
+    private int writeBatch(Map<String, BookRequestDto> batch, BookBulkIndexer.Session session) {
+        List<BookRequestDto> rows = List.copyOf(batch.values());
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            // ISBN이 이미 있어 UPDATE로 끝난 행의 ID는 사용되지 않고 버려진다
+            PrimitiveIterator.OfLong ids = allocateIds(rows.size());
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> bind(ps, ids.nextLong(), row, now));
+        });
+
+        // 트랜잭션 밖에서 조회하므로 엔티티는 바로 준영속 상태가 되어 배치가 끝나면 GC 대상이 된다
+        bookRepository.findByIsbnIn(batch.keySet())
+                .forEach(book -> session.index(BookDocument.from(book)));
+        return rows.size();
+    }
+
+    /**
+     * 도서 ID 할당 (pooled-lo: nextval 값부터 Book.ID_ALLOCATION_SIZE개가 호출자 몫)
+     *
+     * @param count 필요한 ID 수
+     * @return 할당된 ID
+     */
+    private PrimitiveIterator.OfLong allocateIds(int count) {
+        int blocks = (count + Book.ID_ALLOCATION_SIZE - 1) / Book.ID_ALLOCATION_SIZE;
+        List<Long> starts = jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, blocks);
+        return starts.stream()
+                .flatMapToLong(start -> LongStream.range(start, start + Book.ID_ALLOCATION_SIZE))
+                .iterator();
+    }
+
+    private static void bind(PreparedStatement ps, long id, BookRequestDto row, LocalDateTime now)
+            throws SQLException {
+        ps.setLong(1, id);
+        ps.setString(2, row.getTitle().strip());
+        ps.setString(3, row.getAuthor().strip());
+        ps.setObject(4, row.getPublisher(), Types.VARCHAR);
+        ps.setObject(5, row.getDescription(), Types.VARCHAR);
+        ps.setString(6, row.getIsbn().strip());
+        ps.setObject(7, row.getPrice(), Types.INTEGER);
+        ps.setObject(8, row.getPublishedDate(), Types.DATE);
+        ps.setObject(9, row.getCategory(), Types.VARCHAR);
+        ps.setObject(10, row.getStockQuantity(), Types.INTEGER);
+        ps.setObject(11, row.getCoverImageUrl(), Types.VARCHAR);
+        ps.setObject(12, now);
+        ps.setObject(13, now);
+    }
+
+    /**
+     * 행 검증
+     *
+     * @return 오류 사유, 올바른 행이면 null
+     */
+    private static String validate(BookRequestDto row) {
+        if (row == null) {
+            return "빈 행";
+        }
+        if (isBlank(row.getTitle())) {
+            return "title 누락";
+        }
+        if (isBlank(row.getAuthor())) {
+            return "author 누락";
+        }
+        if (isBlank(row.getIsbn())) {
+            return "isbn 누락";
+        }
+        if (row.getPrice() != null && row.getPrice() < 0) {
+            return "price가 음수: " + row.getPrice();
+        }
+        if (row.getStockQuantity() != null && row.getStockQuantity() < 0) {
+            return "stockQuantity가 음수: " + row.getStockQuantity();
+        }
+        for (String value : new String[]{row.getTitle(), row.getAuthor(), row.getPublisher(), row.getIsbn(),
+                row.getCategory(), row.getCoverImageUrl()}) {
+            if (value != null && value.length() > MAX_VARCHAR_LENGTH) {
+                return "값이 " + MAX_VARCHAR_LENGTH + "자를 초과: " + value.substring(0, 20) + "...";
+            }
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * 인덱싱 실패 문서를 Outbox에 등록 (디스패처가 재시도)
+     *
+     * 실패 상세가 한도 초과로 잘렸으면 등록되지 않은 문서는 다음 기동 시 증분 동기화로 복구된다
+     */
+    private void requeueFailures(BulkIndexResult indexing) {
+        if (indexing.failed() == 0) {
+            return;
+        }
+        bookIndexOutboxRepository.saveAll(indexing.failures().stream()
+                .map(failure -> BookIndexOutbox.index(Long.valueOf(failure.id())))
+                .toList());
+        if (indexing.failuresTruncated()) {
+            log.warn("인덱싱 실패 {}건 중 {}건만 Outbox에 등록, 나머지는 다음 증분 동기화에서 반영",
+                    indexing.failed(), indexing.failures().size());
+        }
+    }
+
+    private static long throughput(long count, long elapsedNanos) {
+        return elapsedNanos == 0 ? count : count * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.domain.BookIndexOperation;
+import com.example.booksearch.domain.BookIndexOutbox;
+import com.example.booksearch.dto.BulkIndexResult;
+import com.example.booksearch.repository.BookIndexOutboxRepository;
+import com.example.booksearch.repository.BookRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 인덱싱 Outbox 디스패처
+ *
+ * BookService가 도서 변경과 같은 트랜잭션에 기록한 Outbox 레코드를 주기적으로 읽어
+ * OpenSearch에 벌크 요청으로 반영한다
+ *
+ * 동일 도서에 대한 여러 변경은 마지막 작업만 남겨 병합(last-write-wins)하며,
+ * INDEX 작업은 디스패치 시점의 최신 엔티티를 다시 읽어 인덱싱한다
+ * 벌크 반영에 성공한 도서의 Outbox 레코드만 삭제하므로 재기동 시에도 유실되지 않는다
+ * 실패한 레코드는 시도 횟수에 따른 지수 백오프 뒤에 다시 읽으며,
+ * book.index.outbox.max-attempts번 실패하면 보류(parked)하여 매 주기 배치 앞자리를 차지하지 않게 한다
+ * (보류 레코드는 lastError로 원인을 확인한 뒤 parked_at을 비우면 다시 디스패치된다)
+ *
+ * 노출 메트릭:
+ * <ul>
+ *   <li>book.index.outbox.depth - 대기 중인 Outbox 레코드 수 (보류 제외)</li>
+ *   <li>book.index.outbox.lag - 가장 오래된 대기 레코드의 지연 시간 (초, 보류 제외)</li>
+ *   <li>book.index.outbox.parked - 현재 보류된 레코드 수</li>
+ *   <li>book.index.outbox.parked.total - 최대 시도 횟수 초과로 보류된 레코드 수 (누적)</li>
+ *   <li>book.index.outbox.dispatched - 반영 완료된 도서 문서 수</li>
+ *   <li>book.index.outbox.failures - 전체 또는 일부 문서가 실패한 디스패치 배치 수</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class BookIndexOutboxDispatcher {
+
+    private final BookIndexOutboxRepository outboxRepository;
+    private final BookRepository bookRepository;
+    private final BookIndexService bookIndexService;
+    private final BookSearchCache bookSearchCache;
+    private final IndexBootstrapStatus indexBootstrapStatus;
+
+    /** 한 번에 읽어 처리할 Outbox 레코드 수 */
+    private final int batchSize;
+
+    /** 레코드당 최대 시도 횟수 (도달하면 보류) */
+    private final int maxAttempts;
+
+    /** 첫 재시도 지연 (실패마다 2배, 최대 maxRetryBackoff) */
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final AtomicLong parkedDepth = new AtomicLong();
+    private final Counter dispatchedCounter;
+    private final Counter failureCounter;
+    private final Counter parkedCounter;
+
+    public BookIndexOutboxDispatcher(BookIndexOutboxRepository outboxRepository,
+                                     BookRepository bookRepository,
+                                     BookIndexService bookIndexService,
+                                     BookSearchCache bookSearchCache,
+                                     IndexBootstrapStatus indexBootstrapStatus,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${book.index.outbox.batch-size:500}") int batchSize,
+                                     @Value("${book.index.outbox.max-attempts:10}") int maxAttempts,
+                                     @Value("${book.index.outbox.retry-backoff:PT1S}") Duration retryBackoff,
+                                     @Value("${book.index.outbox.max-retry-backoff:PT10M}") Duration maxRetryBackoff) {
+        this.outboxRepository = outboxRepository;
+        this.bookRepository = bookRepository;
+        this.bookIndexService = bookIndexService;
+        this.bookSearchCache = bookSearchCache;
+        this.indexBootstrapStatus = indexBootstrapStatus;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+
+        meterRegistry.gauge("book.index.outbox.depth", queueDepth);
+        meterRegistry.gauge("book.index.outbox.lag", lagSeconds);
+        meterRegistry.gauge("book.index.outbox.parked", parkedDepth);
+        this.dispatchedCounter = meterRegistry.counter("book.index.outbox.dispatched");
+        this.failureCounter = meterRegistry.counter("book.index.outbox.failures");
+        this.parkedCounter = meterRegistry.counter("book.index.outbox.parked.total");
+    }
+
+    /**
+     * 대기 중인 Outbox 레코드를 배치 단위로 OpenSearch에 반영
+     *
+     * 이전 실행이 끝난 뒤 book.index.outbox.poll-interval-ms 간격으로 실행된다
+     * 인덱스 bootstrap이 진행 중(INDEXING)일 때는 반영하지 않는다
+     * (alias가 만들어지기 전에 쓰면 OpenSearch가 같은 이름의 일반 인덱스를 자동 생성함)
+     * bootstrap이 실패해 재시도를 기다리는 동안에는 alias가 있으면 계속 반영한다
+     */
+    @Scheduled(fixedDelayString = "${book.index.outbox.poll-interval-ms:1000}")
+    @Transactional
+    public void dispatch() {
+        if (!canDispatch()) {
+            refreshMetrics();
+            return;
+        }
+        List<BookIndexOutbox> batch = outboxRepository.findNextBatch(LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (!batch.isEmpty()) {
+            dispatchBatch(batch);
+        }
+        refreshMetrics();
+    }
+
+    private boolean canDispatch() {
+        return switch (indexBootstrapStatus.getState()) {
+            case READY -> true;
+            case INDEXING -> false;
+            case FAILED -> aliasExists();
+        };
+    }
+
+    private boolean aliasExists() {
+        try {
+            return bookIndexService.indexExists();
+        } catch (RuntimeException e) {
+            log.debug("인덱스 존재 확인 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void dispatchBatch(List<BookIndexOutbox> batch) {
+        // 등록 순서대로 덮어써서 도서별 마지막 작업만 남긴다
+        Map<Long, BookIndexOperation> latestOperations = new LinkedHashMap<>();
+        for (BookIndexOutbox entry : batch) {
+            latestOperations.put(entry.getBookId(), entry.getOperation());
+        }
+
+        List<Long> indexIds = new ArrayList<>();
+        List<Long> deleteIds = new ArrayList<>();
+        latestOperations.forEach((bookId, operation) -> {
+            if (operation == BookIndexOperation.INDEX) {
+                indexIds.add(bookId);
+            } else {
+                deleteIds.add(bookId);
+            }
+        });
+
+        // INDEX 대기 중 DB에서 삭제된 도서는 인덱스에서도 삭제
+        List<Book> books = bookRepository.findAllById(indexIds);
+        Set<Long> foundIds = books.stream().map(Book::getId).collect(Collectors.toSet());
+        indexIds.stream().filter(id -> !foundIds.contains(id)).forEach(deleteIds::add);
+
+        BulkIndexResult result;
+        try {
+            result = bookIndexService.syncBooks(books, deleteIds);
+        } catch (Exception e) {
+            batch.forEach(entry -> markFailed(entry, e.getMessage()));
+            failureCounter.increment();
+            log.warn("Outbox 디스패치 실패, 다음 주기에 재시도: 레코드 {}건, error={}", batch.size(), e.getMessage());
+            return;
+        }
+
+        if (result.failuresTruncated()) {
+            // 실패 문서를 특정할 수 없으면 배치 전체를 남겨 재시도
+            batch.forEach(entry -> markFailed(entry, "벌크 실패 " + result.failed() + "건"));
+            failureCounter.increment();
+            log.warn("Outbox 디스패치 실패 문서 과다, 배치 전체 재시도: 실패 {}건", result.failed());
+            return;
+        }
+
+        // 실패한 도서의 레코드만 남기고 나머지는 삭제
+        Map<String, String> failedReasons = result.failures().stream()
+                .collect(Collectors.toMap(BulkIndexResult.ItemFailure::id,
+                        failure -> failure.type() + ": " + failure.reason(), (a, b) -> a));
+        List<BookIndexOutbox> completed = new ArrayList<>();
+        for (BookIndexOutbox entry : batch) {
+            String reason = failedReasons.get(String.valueOf(entry.getBookId()));
+            if (reason == null) {
+                completed.add(entry);
+            } else {
+                markFailed(entry, reason);
+            }
+        }
+        outboxRepository.deleteAllInBatch(completed);
+        dispatchedCounter.increment(result.succeeded());
+        if (result.succeeded() > 0) {
+            // 커밋 직후 ~ 인덱스 반영 사이에 다시 캐시된 이전 검색 결과 제거
+            bookSearchCache.invalidateAll();
+        }
+
+        if (failedReasons.isEmpty()) {
+            log.debug("Outbox 디스패치 완료: 레코드 {}건 → 문서 {}건", batch.size(), latestOperations.size());
+        } else {
+            failureCounter.increment();
+            log.warn("Outbox 디스패치 일부 실패, 다음 주기에 재시도: 문서 {}건", failedReasons.size());
+        }
+    }
+
+    private void markFailed(BookIndexOutbox entry, String reason) {
+        boolean parked = entry.markFailed(reason, LocalDateTime.now(), maxAttempts, retryBackoff, maxRetryBackoff);
+        if (parked) {
+            parkedCounter.increment();
+            log.error("Outbox 레코드 보류 (최대 시도 {}회 초과): id={}, bookId={}, operation={}, error={}",
+                    maxAttempts, entry.getId(), entry.getBookId(), entry.getOperation(), entry.getLastError());
+        }
+    }
+
+    private void refreshMetrics() {
+        queueDepth.set(outboxRepository.countByParkedAtIsNull());
+        parkedDepth.set(outboxRepository.countByParkedAtIsNotNull());
+        LocalDateTime oldest = outboxRepository.findOldestCreatedAt();
+        lagSeconds.set(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toSeconds());
+    }
+}
@@ -2,31 +2,75 @@ package com.example.booksearch.service;
 
 import com.example.booksearch.domain.Book;
 import com.example.booksearch.domain.BookDocument;
-import com.example.booksearch.repository.BookSearchRepository;
+import com.example.booksearch.dto.BookCursor;
+import com.example.booksearch.dto.BookFacetSearchResponse;
+import com.example.booksearch.dto.BookFacetSearchResponse.FacetBucket;
+import com.example.booksearch.dto.BookSearchCondition;
+import com.example.booksearch.dto.BookSummary;
+import com.example.booksearch.dto.BulkIndexResult;
+import com.example.booksearch.dto.CursorPage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.opensearch.client.Request;
+import org.opensearch.client.Response;
+import org.opensearch.client.ResponseListener;
+import org.opensearch.client.RestClient;
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.Time;
+import org.opensearch.client.opensearch._types.aggregations.Aggregate;
+import org.opensearch.client.opensearch.core.ScrollResponse;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.opensearch.core.search.SourceConfig;
+import org.opensearch.client.opensearch.core.search.TotalHits;
+import org.opensearch.client.opensearch.core.search.TotalHitsRelation;
+import org.opensearch.client.opensearch.indices.update_aliases.Action;
+import org.opensearch.client.transport.rest_client.RestClientTransport;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.IndexOperations;
-import org.springframework.data.elasticsearch.core.SearchHit;
-import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.document.Document;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
-import org.springframework.data.elasticsearch.core.query.IndexQuery;
-import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
- * OpenSearch 인덱스 관리 및 문서 CRUD 서비스
+ * OpenSearch 인덱스 관리, 검색 및 벌크 동기화 서비스
  *
- * 인덱스 생성/삭제, 단건 문서 CRUD, 벌크 인덱싱을 담당한다
- * BookService에서 PostgreSQL 저장 후 호출하여 OpenSearch 동기화를 수행한다
+ * 버전 인덱스와 alias 관리, 검색, 벌크 인덱싱을 담당한다
+ * 도서 변경분은 BookIndexOutboxDispatcher가 Outbox를 읽어 syncBooks()로 반영한다
  *
- * OpenSearch 장애 시에도 PostgreSQL 작업에 영향을 주지 않도록
- * 각 메서드에서 예외를 catch하여 로그 경고로 처리한다
+ * 오류 처리:
+ * <ul>
+ *   <li>인덱스/alias 관리와 검색 메서드는 OpenSearch 호출 실패를 호출자에게 던진다
+ *       (I/O 오류는 UncheckedIOException, 검색 deadline 초과는 SearchTimeoutException)</li>
+ *   <li>syncBooks는 문서 단위 실패를 BulkIndexResult로 돌려주어 Outbox가 재시도하게 한다</li>
+ *   <li>정리 작업(deleteIndices, PIT/scroll 해제)만 실패를 로그로 남기고 넘어간다</li>
+ * </ul>
+ * 도서 등록/수정은 Outbox로 분리되어 있으므로 OpenSearch 장애가 PostgreSQL 작업을 실패시키지 않는다
+ * 검색 시간과 OpenSearch 호출 왕복 시간, took은 OpenSearchMetrics로 기록한다
  */
 @Service
 @RequiredArgsConstructor
@@ -34,15 +78,71 @@ import java.util.List;
 public class BookIndexService {
 
     private final ElasticsearchOperations elasticsearchOperations;
-    private final BookSearchRepository bookSearchRepository;
+    private final OpenSearchClient openSearchClient;
+    private final BookBulkIndexer bookBulkIndexer;
+    private final BookSearchCache bookSearchCache;
+    private final OpenSearchMetrics openSearchMetrics;
+    private final HedgedSearchExecutor hedgedSearchExecutor;
+    private final ObjectMapper objectMapper;
 
-    /** 벌크 인덱싱 시 한 번에 처리할 문서 수 */
-    private static final int BULK_CHUNK_SIZE = 100;
+    /** rebuild 중 변경분을 함께 기록할 새 인덱스 (없으면 null) */
+    private volatile String dualWriteIndex;
+
+    /** 벌크 적재 모드 중인 인덱스별 상태 */
+    private final Map<String, BulkLoadState> bulkLoadStates = new HashMap<>();
+
+    /**
+     * bulkLoadStates 보호 잠금
+     *
+     * 잠금을 쥔 채 OpenSearch 설정 변경 요청을 기다리므로
+     * 가상 스레드가 캐리어에 고정되는 synchronized 대신 ReentrantLock을 사용한다
+     */
+    private final ReentrantLock bulkLoadLock = new ReentrantLock();
+
+    /** 벌크 적재 중 레플리카 수 */
+    @Value("${book.index.bulk-load.replicas:0}")
+    private int bulkLoadReplicas;
+
+    /** 벌크 적재 후 세그먼트 1개로 force merge 여부 */
+    @Value("${book.index.bulk-load.force-merge:false}")
+    private boolean forceMergeAfterBulkLoad;
+
+    /** 검색 결과 전체 건수 계산 방식 (EXACT, CAPPED, DISABLED) */
+    @Value("${book.search.total-hits.mode:CAPPED}")
+    private TotalHitsPolicy.Mode totalHitsMode;
+
+    /** CAPPED 모드에서 정확히 셀 최대 건수 */
+    @Value("${book.search.total-hits.threshold:10000}")
+    private int totalHitsThreshold;
+
+    /** 커서 검색 PIT 유지 시간 (다음 페이지 요청마다 연장) */
+    @Value("${book.search.pit.keep-alive:5m}")
+    private String pitKeepAlive;
+
+    /** 도서 인덱스 alias 이름 */
+    public static final String INDEX_NAME = "books";
+
+    /** 버전 인덱스 이름 구분자 (books_v1, books_v2 ...) */
+    private static final String VERSION_SEPARATOR = "_v";
+
+    private static final String REPLICAS_SETTING = "index.number_of_replicas";
+    private static final String REFRESH_INTERVAL_SETTING = "index.refresh_interval";
+    private static final String TRANSLOG_DURABILITY_SETTING = "index.translog.durability";
+
+    /** 검색 hit의 _source 역직렬화 타입 */
+    @SuppressWarnings("unchecked")
+    private static final Class<Map<String, Object>> SOURCE_TYPE = (Class<Map<String, Object>>) (Class<?>) Map.class;
+
+    /** 문서 ID 스캔 시 scroll 컨텍스트 유지 시간 */
+    private static final String SCROLL_KEEP_ALIVE = "1m";
+
+    /** 커서 검색 샤드 timeout 비율 (남은 deadline 중 샤드 검색에 쓸 몫, 나머지는 병합/전송 여유) */
+    private static final double SHARD_TIMEOUT_RATIO = 0.8;
 
     // ── 인덱스 관리 ─────────────────────────────────────
 
     /**
-     * 인덱스 존재 여부 확인
+     * 인덱스(alias) 존재 여부 확인
      *
      * @return 인덱스 존재 시 true
      */
@@ -54,155 +154,747 @@ public class BookIndexService {
     /**
      * 인덱스 생성 (이미 존재하면 스킵)
      *
-     * BookDocument의 @Document, @Setting, @Mapping 어노테이션 기반으로
-     * 인덱스 설정(Nori 분석기)과 매핑을 함께 생성한다
+     * 'books'는 버전 인덱스(books_v{n})를 가리키는 alias로 관리한다
+     * 최초 기동 시 books_v1을 생성하고 alias를 연결한다
+     * alias 도입 이전의 단일 'books' 인덱스가 남아 있으면 그대로 사용하며,
+     * 다음 rebuild 시 alias 교체와 함께 제거된다
      */
     public void createIndexIfNotExists() {
-        IndexOperations indexOps = elasticsearchOperations.indexOps(BookDocument.class);
-
-        if (indexOps.exists()) {
-            log.info("OpenSearch 인덱스 'books'가 이미 존재합니다.");
+        if (aliasExists()) {
+            log.info("OpenSearch alias 'books'가 이미 존재합니다: {}", findAliasedIndices());
+            return;
+        }
+        if (indexExists()) {
+            log.info("OpenSearch 인덱스 'books'가 alias 없이 존재합니다. 다음 rebuild 시 버전 인덱스로 전환됩니다.");
             return;
         }
 
-        boolean created = indexOps.createWithMapping();
-        if (created) {
-            log.info("OpenSearch 인덱스 'books' 생성 완료 (Nori 분석기 포함)");
-        } else {
-            log.warn("OpenSearch 인덱스 'books' 생성 실패");
+        String indexName = createVersionedIndex();
+        updateAliases(List.of(Action.of(a -> a.add(add -> add.index(indexName).alias(INDEX_NAME)))));
+        log.info("OpenSearch 인덱스 '{}' 생성 및 alias 'books' 연결 완료 (Nori 분석기 포함)", indexName);
+    }
+
+    /**
+     * 다음 버전 인덱스 생성 (books_v{n+1})
+     *
+     * BookDocument의 @Setting, @Mapping 어노테이션 기반으로 설정(Nori 분석기)과 매핑을 생성한다
+     * 대량 적재 시에는 runInBulkLoadMode()로 감싸서 채운다
+     *
+     * @return 생성된 인덱스 이름
+     */
+    public String createVersionedIndex() {
+        IndexOperations entityOps = elasticsearchOperations.indexOps(BookDocument.class);
+        String indexName = INDEX_NAME + VERSION_SEPARATOR + nextIndexVersion();
+        boolean created = elasticsearchOperations.indexOps(IndexCoordinates.of(indexName))
+                .create(entityOps.createSettings(), entityOps.createMapping());
+        if (!created) {
+            throw new IllegalStateException("OpenSearch 인덱스 생성 실패: " + indexName);
         }
+
+        log.info("OpenSearch 버전 인덱스 '{}' 생성 완료", indexName);
+        return indexName;
     }
 
     /**
-     * 인덱스 삭제 후 재생성
+     * alias 'books'를 새 인덱스로 원자적으로 교체하고 이전 인덱스 삭제
+     *
+     * alias 추가와 제거가 하나의 _aliases 요청으로 처리되므로
+     * 검색 트래픽은 교체 중에도 빈 인덱스를 보지 않는다
      *
-     * 매핑 변경 시 사용, 기존 문서가 모두 삭제되므로
-     * 재생성 후 bulkIndexBooks()로 데이터를 다시 인덱싱해야 한다
+     * @param newIndexName 새로 연결할 인덱스
      */
-    public void recreateIndex() {
-        IndexOperations indexOps = elasticsearchOperations.indexOps(BookDocument.class);
+    public void swapAlias(String newIndexName) {
+        List<Action> actions = new ArrayList<>();
+        actions.add(Action.of(a -> a.add(add -> add.index(newIndexName).alias(INDEX_NAME))));
 
-        if (indexOps.exists()) {
-            indexOps.delete();
-            log.info("OpenSearch 인덱스 'books' 삭제 완료");
+        List<String> oldIndices = new ArrayList<>();
+        if (aliasExists()) {
+            for (String oldIndex : findAliasedIndices()) {
+                if (!oldIndex.equals(newIndexName)) {
+                    actions.add(Action.of(a -> a.remove(remove -> remove.index(oldIndex).alias(INDEX_NAME))));
+                    oldIndices.add(oldIndex);
+                }
+            }
+        } else if (indexExists()) {
+            // alias 도입 이전의 단일 인덱스는 같은 요청에서 삭제해야 동일 이름 alias를 만들 수 있다
+            actions.add(Action.of(a -> a.removeIndex(remove -> remove.index(INDEX_NAME))));
         }
 
-        boolean created = indexOps.createWithMapping();
-        if (created) {
-            log.info("OpenSearch 인덱스 'books' 재생성 완료");
-        } else {
-            log.warn("OpenSearch 인덱스 'books' 재생성 실패");
+        updateAliases(actions);
+        log.info("OpenSearch alias 'books' 교체 완료: {} → {}", oldIndices, newIndexName);
+
+        if (!oldIndices.isEmpty()) {
+            deleteIndices(oldIndices);
         }
     }
 
-    // ── 단건 문서 CRUD ──────────────────────────────────
+    /**
+     * 인덱스 삭제 (rebuild 실패 시 정리용)
+     *
+     * @param indexNames 삭제할 인덱스 목록
+     */
+    public void deleteIndices(List<String> indexNames) {
+        try {
+            openSearchClient.indices().delete(d -> d.index(indexNames));
+            log.info("OpenSearch 인덱스 삭제 완료: {}", indexNames);
+        } catch (Exception e) {
+            log.warn("OpenSearch 인덱스 삭제 실패: {}, error={}", indexNames, e.getMessage());
+        }
+    }
 
     /**
-     * 단건 문서 인덱싱 (생성/수정 겸용)
+     * rebuild 중 변경분 이중 기록 대상 설정
      *
-     * 동일 ID의 문서가 있으면 덮어쓴다 (upsert 동작)
+     * 설정된 동안 syncBooks()는 alias와 새 인덱스 양쪽에 변경분을 반영한다
      *
-     * @param book 인덱싱할 도서 엔티티
+     * @param indexName 적재 중인 새 인덱스 (해제 시 null)
      */
-    public void indexBook(Book book) {
+    public void setDualWriteIndex(String indexName) {
+        this.dualWriteIndex = indexName;
+    }
+
+    /**
+     * alias 'books'가 가리키는 인덱스 목록 조회
+     *
+     * @return 인덱스 이름 목록
+     */
+    public Set<String> findAliasedIndices() {
         try {
-            BookDocument document = BookDocument.from(book);
-            bookSearchRepository.save(document);
-            log.debug("도서 인덱싱 완료: id={}, title={}", book.getId(), book.getTitle());
-        } catch (Exception e) {
-            log.warn("도서 인덱싱 실패: id={}, title={}, error={}",
-                    book.getId(), book.getTitle(), e.getMessage());
+            return openSearchClient.indices().getAlias(g -> g.name(INDEX_NAME)).result().keySet();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
     /**
-     * 단건 문서 삭제
+     * alias 'books'가 현재 가리키는 실제 인덱스 이름 (쉼표 구분, 정렬)
+     *
+     * alias 도입 이전의 단일 인덱스면 'books', 인덱스가 없으면 빈 문자열을 반환한다
      *
-     * @param bookId 삭제할 도서 ID
+     * @return 실제 인덱스 이름
      */
-    public void deleteBook(Long bookId) {
+    public String resolveIndexNames() {
+        if (aliasExists()) {
+            return String.join(",", new TreeSet<>(findAliasedIndices()));
+        }
+        return indexExists() ? INDEX_NAME : "";
+    }
+
+    private boolean aliasExists() {
         try {
-            bookSearchRepository.deleteById(bookId);
-            log.debug("도서 인덱스 삭제 완료: id={}", bookId);
-        } catch (Exception e) {
-            log.warn("도서 인덱스 삭제 실패: id={}, error={}", bookId, e.getMessage());
+            return openSearchClient.indices().existsAlias(e -> e.name(INDEX_NAME)).value();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int nextIndexVersion() {
+        try {
+            return openSearchClient.indices().get(g -> g.index(INDEX_NAME + VERSION_SEPARATOR + "*"))
+                    .result().keySet().stream()
+                    .map(name -> name.substring(INDEX_NAME.length() + VERSION_SEPARATOR.length()))
+                    .filter(version -> version.chars().allMatch(Character::isDigit))
+                    .mapToInt(Integer::parseInt)
+                    .max()
+                    .orElse(0) + 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void updateAliases(List<Action> actions) {
+        try {
+            openSearchClient.indices().updateAliases(u -> u.actions(actions));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void refresh(String indexName) {
+        try {
+            openSearchClient.indices().refresh(r -> r.index(indexName));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 인덱스 동적 설정 변경 (PUT /{index}/_settings)
+     *
+     * @param indexName 대상 인덱스
+     * @param settings  변경할 설정 (flat key, 예: index.refresh_interval)
+     */
+    private void updateSettings(String indexName, Map<String, Object> settings) {
+        try {
+            Request request = new Request("PUT", "/" + indexName + "/_settings");
+            request.setJsonEntity(objectMapper.writeValueAsString(settings));
+            performRequest(request);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 저수준 REST 요청 실행
+     *
+     * RestClient.performRequest는 응답을 synchronized 블록 안에서 기다려 가상 스레드를 캐리어에 고정시키므로
+     * 비동기 API로 보내고 CompletableFuture로 기다린다
+     */
+    private Response performRequest(Request request) throws IOException {
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        restClient().performRequestAsync(request, new ResponseListener() {
+            @Override
+            public void onSuccess(Response response) {
+                future.complete(response);
+            }
+
+            @Override
+            public void onFailure(Exception exception) {
+                future.completeExceptionally(exception);
+            }
+        });
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("OpenSearch 요청 대기 중 인터럽트: " + request.getEndpoint());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private RestClient restClient() {
+        return ((RestClientTransport) openSearchClient._transport()).restClient();
+    }
+
+    // ── 벌크 적재 모드 ──────────────────────────────────
+
+    /**
+     * 벌크 적재 모드에서 작업 실행
+     *
+     * 적재 동안 refresh 비활성, 레플리카 축소, translog 비동기 fsync로 전환하여
+     * 세그먼트 생성/병합과 복제 I/O를 줄인다
+     * 작업 성공/실패와 무관하게 원래 설정을 복원한 뒤 refresh 1회(설정 시 force merge)를 수행한다
+     *
+     * 같은 인덱스에 대해 중첩 호출되면 가장 바깥 호출만 설정을 바꾸고 복원한다
+     *
+     * @param indexName 대상 인덱스 (alias면 연결된 모든 인덱스)
+     * @param load      적재 작업
+     * @param <T>       작업 결과 타입
+     * @return 작업 결과
+     */
+    public <T> T runInBulkLoadMode(String indexName, Supplier<T> load) {
+        enterBulkLoadMode(indexName);
+        try {
+            return load.get();
+        } finally {
+            exitBulkLoadMode(indexName);
+        }
+    }
+
+    private void enterBulkLoadMode(String indexName) {
+        bulkLoadLock.lock();
+        try {
+            BulkLoadState state = bulkLoadStates.get(indexName);
+            if (state != null) {
+                state.depth++;
+                return;
+            }
+
+            Map<String, Map<String, Object>> originals = getBulkLoadSettings(indexName);
+            Map<String, Object> tuned = new HashMap<>();
+            tuned.put(REFRESH_INTERVAL_SETTING, "-1");
+            tuned.put(REPLICAS_SETTING, String.valueOf(bulkLoadReplicas));
+            tuned.put(TRANSLOG_DURABILITY_SETTING, "async");
+            updateSettings(indexName, tuned);
+
+            bulkLoadStates.put(indexName, new BulkLoadState(originals));
+            log.info("OpenSearch 벌크 적재 모드 진입: index={}, 원래 설정={}", indexName, originals);
+        } finally {
+            bulkLoadLock.unlock();
+        }
+    }
+
+    private void exitBulkLoadMode(String indexName) {
+        bulkLoadLock.lock();
+        try {
+            BulkLoadState state = bulkLoadStates.get(indexName);
+            if (state == null || --state.depth > 0) {
+                return;
+            }
+            bulkLoadStates.remove(indexName);
+
+            try {
+                state.originals.forEach(this::updateSettings);
+                refresh(indexName);
+                if (forceMergeAfterBulkLoad) {
+                    forceMerge(indexName);
+                }
+                log.info("OpenSearch 벌크 적재 모드 해제: index={}, 설정 복원 완료", indexName);
+            } catch (RuntimeException e) {
+                log.error("OpenSearch 벌크 적재 설정 복원 실패: index={}, 원래 설정={}, error={}",
+                        indexName, state.originals, e.getMessage());
+                throw e;
+            }
+        } finally {
+            bulkLoadLock.unlock();
+        }
+    }
+
+    /**
+     * 벌크 적재 모드에서 바꾸는 설정의 현재 값 조회
+     *
+     * 명시적으로 설정되지 않은 항목은 null로 기록하여 복원 시 기본값으로 되돌린다
+     *
+     * @param indexName 대상 인덱스 또는 alias
+     * @return 실제 인덱스별 설정 값 (flat key)
+     */
+    private Map<String, Map<String, Object>> getBulkLoadSettings(String indexName) {
+        try {
+            Request request = new Request("GET", "/" + indexName + "/_settings/"
+                    + String.join(",", REFRESH_INTERVAL_SETTING, REPLICAS_SETTING, TRANSLOG_DURABILITY_SETTING));
+            request.addParameter("flat_settings", "true");
+            Response response = performRequest(request);
+
+            Map<String, Map<String, Object>> result = new HashMap<>();
+            JsonNode root = objectMapper.readTree(response.getEntity().getContent());
+            root.fields().forEachRemaining(entry -> {
+                JsonNode settings = entry.getValue().path("settings");
+                Map<String, Object> values = new HashMap<>();
+                for (String key : List.of(REFRESH_INTERVAL_SETTING, REPLICAS_SETTING, TRANSLOG_DURABILITY_SETTING)) {
+                    values.put(key, settings.has(key) ? settings.get(key).asText() : null);
+                }
+                result.put(entry.getKey(), values);
+            });
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void forceMerge(String indexName) {
+        try {
+            Request request = new Request("POST", "/" + indexName + "/_forcemerge");
+            request.addParameter("max_num_segments", "1");
+            performRequest(request);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 인덱스별 벌크 적재 모드 상태 (중첩 호출 수, 복원할 원래 설정)
+     */
+    private static final class BulkLoadState {
+
+        private final Map<String, Map<String, Object>> originals;
+        private int depth = 1;
+
+        private BulkLoadState(Map<String, Map<String, Object>> originals) {
+            this.originals = originals;
         }
     }
 
     // ── 검색 ─────────────────────────────────────────────
 
     /**
-     * 키워드 기반 도서 검색 (multi_match)
+     * 검색 조건에 맞는 도서 수 조회 (_count)
+     *
+     * 문서 본문과 정렬, 스코어 계산 없이 건수만 조회한다
+     * 결과는 BookSearchCache에 캐시된다
+     *
+     * @param condition 검색 조건
+     * @return 매칭 도서 수
+     */
+    public long countBooks(BookSearchCondition condition) {
+        return openSearchMetrics.timeSearch("count", () ->
+                bookSearchCache.get(conditionKey("count", condition), () -> {
+                    try {
+                        return openSearchMetrics.record("count", () -> openSearchClient.count(c -> c
+                                .index(INDEX_NAME)
+                                .query(BookSearchQueries.filtered(condition))))
+                                .count();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+    }
+
+    /**
+     * 키워드 기반 도서 커서 검색 (search_after + PIT)
      *
-     * title, author, description 필드를 대상으로 Nori 형태소 분석 검색 수행
+     * 첫 페이지는 PIT 없이 alias를 바로 검색하고, 다음 페이지를 요청할 때 PIT를 열어 커서에 담는다
+     * 첫 페이지만 보고 떠나는 대부분의 검색이 PIT를 열지 않으므로 열린 PIT 수가 실제 페이지 이동 수로 제한된다
+     * 대신 1페이지와 2페이지 사이의 색인 변경은 고정되지 않는다 (정렬이 id로 끝나므로 경계는 일정함)
+     * from/size 방식과 달리 깊은 페이지도 첫 페이지와 같은 비용이며 max_result_window 제한을 받지 않는다
+     * 첫 페이지는 BookSearchCache에 캐시되며, 커서에 PIT가 없으므로 클라이언트 간에 PIT를 공유하지 않는다
+     * 마지막 페이지에 도달하거나 PIT를 연 요청이 실패하면 바로 닫고, 중간에 이탈한 커서는 유지 시간 만료에 맡긴다
+     *
+     * deadline은 PIT 생성과 검색 HTTP 요청 타임아웃, 샤드 timeout(남은 시간의 80%)에 나눠 적용된다
+     * 샤드 timeout/실패로 일부 결과만 받은 페이지는 timedOut / failedShards로 표시하고 캐시하지 않는다
      *
      * @param keyword  검색 키워드
-     * @param pageable 페이지 정보
-     * @return 검색 결과 (Page)
-     */
-    public Page<BookDocument> searchBooks(String keyword, Pageable pageable) {
-        String queryString = String.format("""
-                {
-                  "multi_match": {
-                    "query": "%s",
-                    "fields": ["title^3", "author^2", "description"],
-                    "type": "best_fields"
-                  }
-                }
-                """, keyword.replace("\"", "\\\""));
+     * @param cursor   커서 토큰 (첫 페이지는 null)
+     * @param size     페이지 크기
+     * @param deadline 요청 deadline
+     * @return 검색 결과 (CursorPage)
+     * @throws IllegalArgumentException 커서가 올바르지 않을 경우
+     * @throws SearchTimeoutException   deadline 안에 응답을 받지 못했을 경우
+     */
+    public CursorPage<BookDocument> searchBooks(String keyword, String cursor, int size, SearchDeadline deadline) {
+        return openSearchMetrics.timeSearch("cursor", () -> {
+            if (cursor == null || cursor.isBlank()) {
+                return bookSearchCache.get(BookSearchCache.Key.of("cursor", keyword, size),
+                        () -> searchByCursor(keyword, null, size, null, this::toBookDocument, deadline),
+                        page -> !page.isPartial(), deadline);
+            }
+            return searchByCursor(keyword, cursor, size, null, this::toBookDocument, deadline);
+        });
+    }
 
-        var query = new org.springframework.data.elasticsearch.core.query.StringQuery(queryString);
-        query.setPageable(pageable);
+    /**
+     * 키워드 기반 도서 요약 커서 검색 (목록 화면용)
+     *
+     * _source를 BookSummary 필드로 제한하여 description 등 긴 본문을 전송/역직렬화하지 않는다
+     *
+     * @param keyword  검색 키워드
+     * @param cursor   커서 토큰 (첫 페이지는 null)
+     * @param size     페이지 크기
+     * @param deadline 요청 deadline
+     * @return 도서 요약 검색 결과 (CursorPage)
+     * @throws IllegalArgumentException 커서가 올바르지 않을 경우
+     * @throws SearchTimeoutException   deadline 안에 응답을 받지 못했을 경우
+     */
+    public CursorPage<BookSummary> searchBookSummaries(String keyword, String cursor, int size,
+                                                       SearchDeadline deadline) {
+        return openSearchMetrics.timeSearch("cursor-summary", () -> {
+            if (cursor == null || cursor.isBlank()) {
+                return bookSearchCache.get(BookSearchCache.Key.of("cursor-summary", keyword, size),
+                        () -> searchByCursor(keyword, null, size, BookSearchQueries.SUMMARY_SOURCE,
+                                this::toBookSummary, deadline),
+                        page -> !page.isPartial(), deadline);
+            }
+            return searchByCursor(keyword, cursor, size, BookSearchQueries.SUMMARY_SOURCE, this::toBookSummary,
+                    deadline);
+        });
+    }
 
-        SearchHits<BookDocument> searchHits = elasticsearchOperations.search(
-                query, BookDocument.class);
+    private BookSummary toBookSummary(Hit<Map<String, Object>> hit) {
+        return BookSummary.from(hit.id(), hit.source() != null ? hit.source() : Map.of());
+    }
+
+    private <T> CursorPage<T> searchByCursor(String keyword, String cursor, int size, SourceConfig source,
+                                             Function<Hit<Map<String, Object>>, T> mapper,
+                                             SearchDeadline deadline) {
+        BookCursor decoded = BookCursor.decode(cursor);
+        if (decoded != null && !decoded.isSearchCursor()) {
+            throw new IllegalArgumentException("검색 커서가 아닙니다. cursor=" + cursor);
+        }
 
-        List<BookDocument> content = searchHits.getSearchHits().stream()
-                .map(SearchHit::getContent)
+        // 첫 페이지는 PIT 없이 조회하고, PIT 없는 커서로 다음 페이지를 요청하면 그때 연다
+        boolean openedPit = decoded != null && decoded.pitId() == null;
+        String pitId = openedPit ? createPit(deadline) : decoded != null ? decoded.pitId() : null;
+
+        SearchResponse<Map<String, Object>> response;
+        try {
+            // 한 건 더 읽어 다음 페이지 존재 여부 판단
+            SearchRequest request = BookSearchQueries.keywordSearchAfter(INDEX_NAME, pitId, pitKeepAlive, keyword,
+                    decoded != null ? decoded.searchAfter() : null, size + 1, totalHitsPolicy(), source,
+                    shardTimeout(deadline));
+            response = hedgedSearchExecutor.search(request, deadline);
+        } catch (RuntimeException e) {
+            // deadline 초과 시에는 응답이 느린 노드에 정리 요청을 기다리지 않고 PIT 자동 만료에 맡긴다
+            if (openedPit && !(e instanceof SearchTimeoutException)) {
+                deletePit(pitId);
+            }
+            throw e;
+        }
+
+        List<Hit<Map<String, Object>>> hits = response.hits().hits();
+        long total = decoded != null ? decoded.total() : totalHits(response);
+        boolean totalExact = decoded != null ? decoded.totalExact() : totalHitsExact(response);
+        boolean timedOut = response.timedOut();
+        int failedShards = response.shards().failures().size();
+        if (timedOut || failedShards > 0) {
+            log.warn("커서 검색 부분 결과: timedOut={}, failedShards={}, keyword={}", timedOut, failedShards, keyword);
+        }
+
+        if (hits.size() <= size) {
+            if (pitId != null) {
+                deletePit(pitId);
+            }
+            return new CursorPage<>(hits.stream().map(mapper).toList(), total, totalExact, null,
+                    timedOut, failedShards);
+        }
+
+        List<Hit<Map<String, Object>>> pageHits = hits.subList(0, size);
+        String nextCursor = BookCursor.ofSearch(pitId, pageHits.get(size - 1).sort(), total, totalExact).encode();
+        return new CursorPage<>(pageHits.stream().map(mapper).toList(), total, totalExact, nextCursor,
+                timedOut, failedShards);
+    }
+
+    /** 남은 deadline 중 샤드 검색에 쓸 시간 (예: 800ms) */
+    private static String shardTimeout(SearchDeadline deadline) {
+        return Math.max(1, (long) (deadline.remainingMillis() * SHARD_TIMEOUT_RATIO)) + "ms";
+    }
+
+    private SearchResponse<Map<String, Object>> search(SearchRequest request) {
+        try {
+            return openSearchMetrics.record("search",
+                    () -> openSearchClient.search(request, SOURCE_TYPE), SearchResponse::took);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    TotalHitsPolicy totalHitsPolicy() {
+        return new TotalHitsPolicy(totalHitsMode, totalHitsThreshold);
+    }
+
+    /** 응답의 전체 건수 (track_total_hits를 끈 경우 -1) */
+    private static long totalHits(SearchResponse<?> response) {
+        TotalHits total = response.hits().total();
+        return total != null ? total.value() : -1;
+    }
+
+    private static boolean totalHitsExact(SearchResponse<?> response) {
+        TotalHits total = response.hits().total();
+        return total != null && total.relation() == TotalHitsRelation.Eq;
+    }
+
+    private String createPit(SearchDeadline deadline) {
+        deadline.check("create_pit");
+        OpenSearchClient client = openSearchClient.withTransportOptions(hedgedSearchExecutor.transportOptions(deadline));
+        try {
+            return openSearchMetrics.record("create_pit", () -> client.createPit(r -> r
+                    .targetIndexes(INDEX_NAME)
+                    .keepAlive(Time.of(t -> t.time(pitKeepAlive)))))
+                    .pitId();
+        } catch (IOException e) {
+            if (deadline.isExpired()) {
+                throw new SearchTimeoutException("검색 deadline 초과: create_pit", e);
+            }
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deletePit(String pitId) {
+        try {
+            openSearchClient.deletePit(d -> d.pitId(pitId));
+        } catch (Exception e) {
+            log.debug("PIT 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 키워드 + 필터 조건 패싯 검색
+     *
+     * 검색 결과와 카테고리/출판사/가격 구간/출판 연도별 문서 수를 한 번의 요청으로 조회한다
+     * 필터 조건은 filter 컨텍스트로 전달되어 OpenSearch 필터 캐시 대상이 되며,
+     * 패싯 값 목록을 위해 PostgreSQL을 조회하지 않는다
+     * 결과는 BookSearchCache에 캐시된다
+     *
+     * @param condition 검색 조건
+     * @param pageable  페이지 및 정렬 정보
+     * @return 검색 결과와 패싯
+     */
+    public BookFacetSearchResponse searchWithFacets(BookSearchCondition condition, Pageable pageable) {
+        return openSearchMetrics.timeSearch("facet", () ->
+                bookSearchCache.get(conditionKey("facet", condition, pageable),
+                        () -> loadWithFacets(condition, pageable)));
+    }
+
+    private BookFacetSearchResponse loadWithFacets(BookSearchCondition condition, Pageable pageable) {
+        TotalHitsPolicy policy = totalHitsPolicy();
+        SearchRequest request = BookSearchQueries.facetedSearch(INDEX_NAME, condition, pageable, policy);
+
+        SearchResponse<Map<String, Object>> response = search(request);
+        return toFacetSearchResponse(response, response.aggregations(), pageable, policy);
+    }
+
+    /**
+     * 검색 응답 + 패싯 aggregation → 패싯 검색 응답 변환
+     *
+     * 결과와 패싯을 한 요청으로 조회한 경우와 별도 요청으로 나눠 조회한 경우(BookAsyncSearchService) 모두에 쓰인다
+     *
+     * @param response     결과 검색 응답
+     * @param aggregations 패싯 aggregation (없으면 빈 Map)
+     * @param pageable     페이지 정보
+     * @param policy       결과 검색에 사용한 전체 건수 계산 정책
+     * @return 패싯 검색 응답
+     */
+    BookFacetSearchResponse toFacetSearchResponse(SearchResponse<Map<String, Object>> response,
+                                                  Map<String, Aggregate> aggregations,
+                                                  Pageable pageable, TotalHitsPolicy policy) {
+        List<BookDocument> books = response.hits().hits().stream()
+                .map(this::toBookDocument)
                 .toList();
+        long total = totalHits(response);
+        boolean hasNext = policy.mode() == TotalHitsPolicy.Mode.DISABLED
+                ? books.size() > pageable.getPageSize()
+                : pageable.getOffset() + pageable.getPageSize() < total;
+        if (books.size() > pageable.getPageSize()) {
+            books = books.subList(0, pageable.getPageSize());
+        }
 
-        return PageableExecutionUtils.getPage(content, pageable, searchHits::getTotalHits);
+        return new BookFacetSearchResponse(
+                books,
+                total,
+                totalHitsExact(response),
+                hasNext,
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                termsBuckets(aggregations.get(BookSearchQueries.CATEGORY_FACET)),
+                termsBuckets(aggregations.get(BookSearchQueries.PUBLISHER_FACET)),
+                rangeBuckets(aggregations.get(BookSearchQueries.PRICE_FACET)),
+                dateHistogramBuckets(aggregations.get(BookSearchQueries.PUBLISHED_YEAR_FACET)));
     }
 
-    // ── 벌크 인덱싱 ─────────────────────────────────────
+    private static BookSearchCache.Key conditionKey(String kind, BookSearchCondition condition, Object... extra) {
+        Object[] params = {condition.getCategory(), condition.getPublisher(),
+                condition.getMinPrice(), condition.getMaxPrice(),
+                condition.getPublishedFrom(), condition.getPublishedTo()};
+        Object[] all = Arrays.copyOf(params, params.length + extra.length);
+        System.arraycopy(extra, 0, all, params.length, extra.length);
+        return BookSearchCache.Key.of(kind, condition.getKeyword(), all);
+    }
+
+    private static List<FacetBucket> termsBuckets(Aggregate aggregate) {
+        if (aggregate == null || !aggregate.isSterms()) {
+            return List.of();
+        }
+        return aggregate.sterms().buckets().array().stream()
+                .map(bucket -> new FacetBucket(bucket.key(), bucket.docCount()))
+                .toList();
+    }
+
+    private static List<FacetBucket> rangeBuckets(Aggregate aggregate) {
+        if (aggregate == null || !aggregate.isRange()) {
+            return List.of();
+        }
+        return aggregate.range().buckets().array().stream()
+                .map(bucket -> new FacetBucket(bucket.key(), bucket.docCount()))
+                .toList();
+    }
+
+    private static List<FacetBucket> dateHistogramBuckets(Aggregate aggregate) {
+        if (aggregate == null || !aggregate.isDateHistogram()) {
+            return List.of();
+        }
+        return aggregate.dateHistogram().buckets().array().stream()
+                .map(bucket -> new FacetBucket(bucket.keyAsString(), bucket.docCount()))
+                .toList();
+    }
 
     /**
-     * 전체 도서 벌크 인덱싱
+     * 검색 hit → BookDocument 변환
      *
-     * 대량 데이터를 {@value BULK_CHUNK_SIZE}건 단위로 분할하여 처리한다
-     * ElasticsearchOperations.bulkIndex()를 사용하여 네트워크 왕복을 최소화한다
+     * @Field의 날짜 패턴 등 매핑 정보를 그대로 따르도록 Spring Data 컨버터로 변환한다
      *
-     * @param books 인덱싱할 도서 엔티티 목록
+     * @param hit 검색 hit (_source는 Map)
+     * @return 도서 문서
      */
-    public void bulkIndexBooks(List<Book> books) {
-        if (books == null || books.isEmpty()) {
-            log.info("인덱싱할 도서가 없습니다.");
+    BookDocument toBookDocument(Hit<Map<String, Object>> hit) {
+        Document document = Document.from(hit.source() != null ? hit.source() : Map.of());
+        document.setId(hit.id());
+        return elasticsearchOperations.getElasticsearchConverter().read(BookDocument.class, document);
+    }
+
+    // ── 문서 ID 스캔 ────────────────────────────────────
+
+    /**
+     * 인덱스의 전체 문서 ID를 페이지 단위로 스캔
+     *
+     * _source 없이 _id만 읽는 scroll 검색으로, _doc 순서로 정렬하여 스코어 계산과 정렬 비용을 피한다
+     * 한 페이지씩 consumer에 넘기므로 문서 수와 무관하게 메모리 사용량이 일정하다
+     *
+     * @param indexName 대상 인덱스 (또는 alias)
+     * @param pageSize  페이지당 문서 수
+     * @param consumer  문서 ID 페이지 처리기
+     * @return 스캔한 문서 수
+     */
+    public long scanDocumentIds(String indexName, int pageSize, Consumer<List<String>> consumer) {
+        Time keepAlive = Time.of(t -> t.time(SCROLL_KEEP_ALIVE));
+        String scrollId = null;
+        long scanned = 0;
+
+        try {
+            SearchResponse<JsonData> response = openSearchClient.search(s -> s
+                    .index(indexName)
+                    .size(pageSize)
+                    .scroll(keepAlive)
+                    .source(src -> src.fetch(false))
+                    .sort(sort -> sort.field(f -> f.field("_doc"))), JsonData.class);
+            scrollId = response.scrollId();
+            List<Hit<JsonData>> hits = response.hits().hits();
+
+            while (!hits.isEmpty()) {
+                consumer.accept(hits.stream().map(Hit::id).toList());
+                scanned += hits.size();
+
+                String currentScrollId = scrollId;
+                ScrollResponse<JsonData> next = openSearchClient.scroll(s -> s
+                        .scrollId(currentScrollId)
+                        .scroll(keepAlive), JsonData.class);
+                scrollId = next.scrollId();
+                hits = next.hits().hits();
+            }
+            return scanned;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            clearScroll(scrollId);
+        }
+    }
+
+    private void clearScroll(String scrollId) {
+        if (scrollId == null) {
             return;
         }
+        try {
+            openSearchClient.clearScroll(c -> c.scrollId(scrollId));
+        } catch (Exception e) {
+            log.debug("scroll 정리 실패: {}", e.getMessage());
+        }
+    }
 
-        log.info("벌크 인덱싱 시작: 총 {}건", books.size());
-        int successCount = 0;
+    // ── 벌크 인덱싱 ─────────────────────────────────────
 
-        for (int i = 0; i < books.size(); i += BULK_CHUNK_SIZE) {
-            int end = Math.min(i + BULK_CHUNK_SIZE, books.size());
-            List<Book> chunk = books.subList(i, end);
+    /**
+     * Outbox 디스패치용 벌크 동기화 (upsert + 삭제)
+     *
+     * 문서 단위 실패는 예외 대신 결과로 돌려준다
+     * rebuild 중이면 적재 중인 새 인덱스에도 같은 변경분을 기록한다
+     * 호출자는 실패한 문서의 Outbox 레코드를 남겨 재시도함으로써 at-least-once 반영을 보장한다
+     *
+     * @param books      인덱싱(upsert)할 도서 엔티티 목록
+     * @param deletedIds 인덱스에서 삭제할 도서 ID 목록
+     * @return 벌크 인덱싱 결과 (문서 단위 실패 포함)
+     */
+    public BulkIndexResult syncBooks(List<Book> books, Collection<Long> deletedIds) {
+        BulkIndexResult result = syncBooks(INDEX_NAME, books, deletedIds);
 
-            try {
-                List<IndexQuery> queries = chunk.stream()
-                        .map(book -> new IndexQueryBuilder()
-                                .withId(String.valueOf(book.getId()))
-                                .withObject(BookDocument.from(book))
-                                .build())
-                        .toList();
-
-                elasticsearchOperations.bulkIndex(queries, IndexCoordinates.of("books"));
-                successCount += chunk.size();
-                log.debug("벌크 인덱싱 청크 완료: {}-{} / {}", i + 1, end, books.size());
-            } catch (Exception e) {
-                log.warn("벌크 인덱싱 청크 실패: {}-{}, error={}", i + 1, end, e.getMessage());
-            }
+        String rebuildIndex = dualWriteIndex;
+        if (rebuildIndex != null) {
+            result = result.withFailuresOf(syncBooks(rebuildIndex, books, deletedIds));
         }
 
-        log.info("벌크 인덱싱 완료: 성공 {}건 / 총 {}건", successCount, books.size());
+        log.debug("Outbox 벌크 동기화 완료: upsert={}건, delete={}건, 실패={}건",
+                books.size(), deletedIds.size(), result.failed());
+        return result;
+    }
+
+    private BulkIndexResult syncBooks(String indexName, List<Book> books, Collection<Long> deletedIds) {
+        BookBulkIndexer.Session session = bookBulkIndexer.open(indexName);
+        books.forEach(book -> session.index(BookDocument.from(book)));
+        deletedIds.forEach(session::delete);
+        return session.finish();
     }
 }
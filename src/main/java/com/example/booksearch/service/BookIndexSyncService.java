@@ -0,0 +1,105 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.IndexSyncState;
+import com.example.booksearch.dto.BulkIndexResult;
+import com.example.booksearch.repository.BookRepository;
+import com.example.booksearch.repository.IndexSyncStateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 기동 시 PostgreSQL → OpenSearch 증분 동기화 서비스
+ *
+ * 마지막으로 인덱스에 반영된 도서의 최대 수정 일시(watermark)를 DB에 저장해 두고,
+ * 재기동 시 그 이후 수정된 도서만 재인덱싱한다
+ * 이어서 인덱스의 문서 ID를 스캔해 DB에 없는 문서(삭제 누락)를 제거한다
+ *
+ * watermark가 없거나 alias가 다른 인덱스로 바뀐 경우에는 새 버전 인덱스로 재구축한 뒤 alias를 교체한다
+ * (서비스 중인 인덱스를 벌크 적재 모드로 바꾸지 않으므로 재구축 중에도 기존 검색 결과와 레플리카가 유지됨)
+ * 기동 시간은 카탈로그 크기가 아닌 변경분 크기에 비례한다 (삭제 탐지는 ID 스캔만 수행)
+ */
+@Slf4j
+@Service
+public class BookIndexSyncService {
+
+    private final BookRepository bookRepository;
+    private final IndexSyncStateRepository indexSyncStateRepository;
+    private final BookIndexService bookIndexService;
+    private final BookReindexService bookReindexService;
+
+    /**
+     * watermark 이전으로 되돌려 다시 읽는 구간
+     *
+     * 수정 일시는 커밋 전에 기록되므로, 늦게 커밋된 트랜잭션의 변경분이
+     * watermark보다 이른 시각을 가질 수 있어 일정 구간을 겹쳐 읽는다
+     */
+    private final Duration overlap;
+
+    /** 삭제 누락 탐지 수행 여부 */
+    private final boolean deletionCheckEnabled;
+
+    /** 삭제 누락 탐지 시 한 번에 비교할 문서 ID 수 */
+    private final int deletionCheckPageSize;
+
+    public BookIndexSyncService(BookRepository bookRepository,
+                                IndexSyncStateRepository indexSyncStateRepository,
+                                BookIndexService bookIndexService,
+                                BookReindexService bookReindexService,
+                                @Value("${book.index.sync.overlap:PT5M}") Duration overlap,
+                                @Value("${book.index.sync.deletion-check:true}") boolean deletionCheckEnabled,
+                                @Value("${book.index.sync.deletion-check-page-size:1000}") int deletionCheckPageSize) {
+        this.bookRepository = bookRepository;
+        this.indexSyncStateRepository = indexSyncStateRepository;
+        this.bookIndexService = bookIndexService;
+        this.bookReindexService = bookReindexService;
+        this.overlap = overlap;
+        this.deletionCheckEnabled = deletionCheckEnabled;
+        this.deletionCheckPageSize = deletionCheckPageSize;
+    }
+
+    /**
+     * 기동 시 동기화
+     *
+     * 1) 동기화 시작 시점의 DB 최대 수정 일시를 다음 watermark 후보로 기록
+     * 2) 유효한 watermark가 있으면 (watermark - overlap) 이후 수정된 도서만 재인덱싱,
+     *    없으면 BookReindexService.rebuildIndex로 재구축하고 종료 (삭제 정리와 watermark 기록은 재구축이 수행)
+     * 3) 인덱스 문서 ID와 DB ID를 비교하여 DB에서 삭제된 문서 제거
+     * 4) 실패 문서가 없을 때만 watermark 갱신
+     */
+    public void syncOnStartup() {
+        String indexNames = bookIndexService.resolveIndexNames();
+        LocalDateTime nextWatermark = bookRepository.findMaxUpdatedAt();
+        Optional<IndexSyncState> state = indexSyncStateRepository.findById(BookIndexService.INDEX_NAME)
+                .filter(s -> s.isValidFor(indexNames));
+
+        if (state.isEmpty()) {
+            log.info("유효한 동기화 watermark 없음, 새 인덱스로 재구축: index={}", indexNames);
+            if (!bookReindexService.rebuildIndexIfIdle()) {
+                log.info("이미 인덱스 재구축이 진행 중이므로 기동 시 동기화를 재구축에 맡김");
+            }
+            return;
+        }
+
+        LocalDateTime since = state.get().getWatermark().minus(overlap);
+        log.info("증분 동기화 시작: index={}, watermark={}, 기준 시각={}",
+                indexNames, state.get().getWatermark(), since);
+        BulkIndexResult result = bookReindexService.reindexInto(BookIndexService.INDEX_NAME, since);
+
+        long deletionFailures = deletionCheckEnabled
+                ? bookReindexService.removeDeletedDocuments(BookIndexService.INDEX_NAME, deletionCheckPageSize)
+                : 0;
+
+        if (result.failed() == 0 && deletionFailures == 0) {
+            indexSyncStateRepository.save(new IndexSyncState(BookIndexService.INDEX_NAME, indexNames, nextWatermark));
+            log.info("동기화 watermark 갱신: {}", nextWatermark);
+        } else {
+            log.warn("동기화 실패 문서 존재, watermark 유지: 인덱싱 실패 {}건, 삭제 실패 {}건",
+                    result.failed(), deletionFailures);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.domain.BookDocument;
+import com.example.booksearch.domain.IndexSyncState;
+import com.example.booksearch.dto.BulkIndexResult;
+import com.example.booksearch.repository.BookRepository;
+import com.example.booksearch.repository.IndexSyncStateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 도서 스트리밍 재인덱싱 서비스
+ *
+ * PostgreSQL 도서 테이블을 ID 키셋 페이지 단위로 읽어 곧바로 BookBulkIndexer 세션에 넘긴다
+ * 한 번에 한 페이지와 전송 중인 벌크 요청만 메모리에 유지하므로
+ * 카탈로그 크기와 무관하게 힙 사용량이 일정하다 (벌크 동시 요청이 가득 차면 DB 읽기도 대기)
+ *
+ * 트랜잭션을 걸지 않아 페이지마다 영속성 컨텍스트가 닫히고,
+ * 인덱싱이 끝난 엔티티는 바로 GC 대상이 된다
+ */
+@Slf4j
+@Service
+public class BookReindexService {
+
+    /** 진행 상황 로그 출력 간격 */
+    private static final long PROGRESS_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final BookRepository bookRepository;
+    private final BookBulkIndexer bookBulkIndexer;
+    private final BookIndexService bookIndexService;
+    private final IndexSyncStateRepository indexSyncStateRepository;
+    private final TaskExecutor indexMaintenanceExecutor;
+
+    /** 한 번에 읽어 인덱싱할 도서 수 */
+    private final int pageSize;
+
+    /** rebuild 중복 실행 방지 플래그 */
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public BookReindexService(BookRepository bookRepository,
+                              BookBulkIndexer bookBulkIndexer,
+                              BookIndexService bookIndexService,
+                              IndexSyncStateRepository indexSyncStateRepository,
+                              @Qualifier("indexMaintenanceExecutor") TaskExecutor indexMaintenanceExecutor,
+                              @Value("${book.index.reindex.page-size:1000}") int pageSize) {
+        this.bookRepository = bookRepository;
+        this.bookBulkIndexer = bookBulkIndexer;
+        this.bookIndexService = bookIndexService;
+        this.indexSyncStateRepository = indexSyncStateRepository;
+        this.indexMaintenanceExecutor = indexMaintenanceExecutor;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * 무중단 인덱스 재구축 (blue/green) 백그라운드 실행
+     *
+     * @return 실행을 시작했으면 true, 이미 재구축 중이면 false
+     */
+    public boolean rebuildIndexAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        indexMaintenanceExecutor.execute(() -> {
+            try {
+                rebuildIndex();
+            } catch (Exception e) {
+                log.error("인덱스 재구축 실패: {}", e.getMessage(), e);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 무중단 인덱스 재구축 (blue/green) 현재 스레드에서 실행
+     *
+     * 서비스 중인 alias를 벌크 적재 모드로 바꾸지 않고 전체 재인덱싱할 때 사용한다 (기동 시 전체 동기화)
+     *
+     * @return 재구축했으면 true, 이미 다른 재구축이 진행 중이면 false
+     */
+    public boolean rebuildIndexIfIdle() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            rebuildIndex();
+            return true;
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 인덱스 재구축 진행 여부
+     *
+     * @return 재구축 중이면 true
+     */
+    public boolean isRebuilding() {
+        return rebuilding.get();
+    }
+
+    /**
+     * 무중단 인덱스 재구축 (blue/green)
+     *
+     * 1) 새 버전 인덱스 생성 후 벌크 적재 모드 진입 (레플리카 축소, refresh 비활성)
+     * 2) 적재 중 발생한 변경분은 Outbox 디스패처가 새 인덱스에도 이중 기록
+     * 3) DB 전체를 새 인덱스에 스트리밍 적재 후, 적재 시작 이후 수정된 도서를 한 번 더 반영
+     * 4) 운영 설정 복원 및 refresh 후 DB에 없는 문서 제거
+     *    (삭제 전에 읽은 페이지가 이중 기록된 삭제보다 늦게 적재되면 삭제된 도서가 되살아남)
+     * 5) alias를 원자적으로 교체하고 이전 인덱스 삭제
+     * 6) 새 인덱스 기준으로 동기화 watermark 기록
+     *
+     * 교체 전까지 검색은 기존 인덱스를 그대로 사용하므로 빈 결과가 노출되지 않는다
+     * 교체 전에 실패하면 새 인덱스를 삭제하고 기존 alias는 유지한다
+     * 교체 후 watermark 기록이 실패하면 새 인덱스는 그대로 두고 watermark 없이 끝낸다
+     * (기존 watermark는 이전 인덱스 기준이라 무효가 되므로 다음 기동 시 전체 동기화)
+     */
+    public void rebuildIndex() {
+        String newIndex = bookIndexService.createVersionedIndex();
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime watermark = bookRepository.findMaxUpdatedAt();
+        bookIndexService.setDualWriteIndex(newIndex);
+
+        long failed;
+        try {
+            failed = bookIndexService.runInBulkLoadMode(newIndex, () ->
+                    reindexInto(newIndex, null).failed() + reindexInto(newIndex, startedAt).failed());
+            // 벌크 적재 모드 해제 시 refresh되므로 적재한 문서 ID를 모두 스캔할 수 있다
+            failed += removeDeletedDocuments(newIndex, pageSize);
+            bookIndexService.swapAlias(newIndex);
+        } catch (RuntimeException e) {
+            // alias 교체 전 실패: 아직 검색에 쓰이지 않는 새 인덱스만 정리
+            bookIndexService.deleteIndices(List.of(newIndex));
+            throw e;
+        } finally {
+            bookIndexService.setDualWriteIndex(null);
+        }
+
+        // 새 인덱스 기준 watermark 기록 (실패 문서가 있으면 다음 기동 시 전체 동기화)
+        try {
+            indexSyncStateRepository.save(new IndexSyncState(
+                    BookIndexService.INDEX_NAME, newIndex, failed == 0 ? watermark : null));
+        } catch (RuntimeException e) {
+            log.error("재구축 후 동기화 watermark 기록 실패, 다음 기동 시 전체 동기화: index={}, error={}",
+                    newIndex, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * DB 도서를 지정한 인덱스에 스트리밍 재인덱싱
+     *
+     * @param indexName    대상 인덱스 (또는 alias)
+     * @param updatedSince 이 시각 이후 수정된 도서만 대상 (null이면 전체)
+     * @return 벌크 인덱싱 결과
+     */
+    public BulkIndexResult reindexInto(String indexName, LocalDateTime updatedSince) {
+        long total = bookRepository.count();
+        log.info("스트리밍 재인덱싱 시작: index={}, updatedSince={}, DB 전체 {}건 (페이지 크기 {})",
+                indexName, updatedSince, total, pageSize);
+
+        long startedAt = System.nanoTime();
+        long lastLoggedAt = startedAt;
+        long processed = 0;
+        long lastId = 0;
+        BookBulkIndexer.Session session = bookBulkIndexer.open(indexName);
+
+        while (true) {
+            List<Book> page = updatedSince == null
+                    ? bookRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(pageSize))
+                    : bookRepository.findByIdGreaterThanAndUpdatedAtGreaterThanEqualOrderByIdAsc(
+                            lastId, updatedSince, Limit.of(pageSize));
+            if (page.isEmpty()) {
+                break;
+            }
+
+            page.forEach(book -> session.index(BookDocument.from(book)));
+            processed += page.size();
+            lastId = page.get(page.size() - 1).getId();
+
+            long now = System.nanoTime();
+            if (now - lastLoggedAt >= PROGRESS_LOG_INTERVAL_NANOS) {
+                log.info("재인덱싱 진행: {}/{}건 ({}%), {} docs/s",
+                        processed, total, total == 0 ? 100 : processed * 100 / total,
+                        throughput(processed, now - startedAt));
+                lastLoggedAt = now;
+            }
+
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+
+        BulkIndexResult result = session.finish();
+        long elapsed = System.nanoTime() - startedAt;
+        log.info("스트리밍 재인덱싱 완료: 성공 {}건 / 실패 {}건 / 처리 {}건, {}ms, {} docs/s",
+                result.succeeded(), result.failed(), processed,
+                TimeUnit.NANOSECONDS.toMillis(elapsed), throughput(processed, elapsed));
+        result.failures().forEach(failure -> log.warn("재인덱싱 문서 실패: id={}, status={}, type={}, reason={}",
+                failure.id(), failure.status(), failure.type(), failure.reason()));
+        return result;
+    }
+
+    /**
+     * 인덱스에는 있지만 DB에서 삭제된 문서 제거
+     *
+     * 문서 ID를 페이지 단위로 스캔하여 DB에 존재하는 ID와 비교하고,
+     * 없는 ID만 벌크 삭제한다
+     *
+     * @param indexName    대상 인덱스 (또는 alias)
+     * @param scanPageSize 한 번에 비교할 문서 ID 수
+     * @return 삭제에 실패한 문서 수
+     */
+    public long removeDeletedDocuments(String indexName, int scanPageSize) {
+        AtomicLong orphanCount = new AtomicLong();
+        BookBulkIndexer.Session session = bookBulkIndexer.open(indexName);
+
+        long scanned = bookIndexService.scanDocumentIds(indexName, scanPageSize, ids -> {
+            List<Long> bookIds = ids.stream().map(Long::valueOf).toList();
+            Set<Long> existing = new HashSet<>(bookRepository.findExistingIds(bookIds));
+            for (Long bookId : bookIds) {
+                if (!existing.contains(bookId)) {
+                    session.delete(bookId);
+                    orphanCount.incrementAndGet();
+                }
+            }
+        });
+
+        BulkIndexResult result = session.finish();
+        log.info("삭제 누락 탐지 완료: index={}, 스캔 {}건, 삭제 대상 {}건, 실패 {}건",
+                indexName, scanned, orphanCount.get(), result.failed());
+        return result.failed();
+    }
+
+    private static long throughput(long count, long elapsedNanos) {
+        return elapsedNanos == 0 ? count : count * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+}
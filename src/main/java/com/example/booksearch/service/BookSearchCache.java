@@ -0,0 +1,178 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.dto.BookFacetSearchResponse;
+import com.example.booksearch.dto.CursorPage;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 검색 결과 인프로세스 캐시 (Caffeine, W-TinyLFU)
+ *
+ * 정규화한 키워드 + 페이지 + 필터 조건을 키로 OpenSearch 검색 결과를 보관한다
+ * 엔트리 가중치는 결과에 담긴 문서/버킷 수로 계산하여 전체 보관량을 문서 수 기준으로 제한하고,
+ * 한도를 넘으면 W-TinyLFU 정책에 따라 자주 쓰이지 않는 결과부터 제거한다
+ * 같은 키에 대한 동시 미스는 한 번만 OpenSearch를 조회한다
+ * 조회는 캐시 잠금 밖에서 실행하여 가상 스레드가 캐리어에 고정되지 않게 한다 (AsyncCacheLoader)
+ *
+ * 무효화:
+ * <ul>
+ *   <li>BookService 등록/수정/삭제 트랜잭션 커밋 후 전체 무효화</li>
+ *   <li>BookIndexOutboxDispatcher가 변경분을 인덱스에 반영한 후 다시 전체 무효화
+ *       (커밋과 인덱스 반영 사이에 다시 캐시된 이전 결과 제거)</li>
+ *   <li>그 밖의 경로(refresh 지연 등)로 남은 결과는 TTL 경과 후 만료</li>
+ * </ul>
+ *
+ * 메트릭은 cache.gets, cache.puts, cache.evictions 등 (cache=book.search)으로 노출된다
+ */
+@Component
+public class BookSearchCache {
+
+    /** Micrometer 캐시 메트릭 이름 태그 */
+    private static final String CACHE_NAME = "book.search";
+
+    private final AsyncCache<Key, Object> cache;
+    private final boolean enabled;
+
+    public BookSearchCache(MeterRegistry meterRegistry,
+                           @Value("${book.search.cache.enabled:true}") boolean enabled,
+                           @Value("${book.search.cache.max-weight:20000}") long maxWeight,
+                           @Value("${book.search.cache.ttl:PT1M}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher(BookSearchCache::weigh)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 검색 결과 조회, 없으면 loader로 조회 후 저장
+     *
+     * loader가 예외를 던지면 캐시하지 않고 그대로 전파한다
+     *
+     * @param key    검색 캐시 키
+     * @param loader OpenSearch 조회 함수
+     * @return 검색 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key key, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return (T) AsyncCacheLoader.get(cache, key, loader::get);
+    }
+
+    /**
+     * 캐시된 검색 결과 조회, 없으면 loader로 조회 후 cacheable을 만족할 때만 저장 (deadline 적용)
+     *
+     * 부분 결과(샤드 timeout 등)처럼 다음 요청에서 다시 조회해야 하는 결과는 적재 직후 제거한다
+     * (같은 키를 동시에 기다리던 호출은 그 결과를 함께 받는다)
+     * 같은 키를 다른 요청이 적재 중이면 그 결과를 이 요청의 deadline까지만 기다린다
+     *
+     * @param key       검색 캐시 키
+     * @param loader    OpenSearch 조회 함수
+     * @param cacheable 결과 캐시 여부
+     * @param deadline  요청 deadline
+     * @return 검색 결과
+     * @throws SearchTimeoutException deadline 안에 다른 요청의 적재가 끝나지 않았을 경우
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key key, Supplier<T> loader, Predicate<T> cacheable, SearchDeadline deadline) {
+        if (!enabled) {
+            return loader.get();
+        }
+        T result = (T) AsyncCacheLoader.get(cache, key, loader::get, deadline);
+        if (!cacheable.test(result)) {
+            cache.synchronous().invalidate(key);
+        }
+        return result;
+    }
+
+    /**
+     * 전체 검색 결과 무효화
+     */
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 전체 검색 결과 무효화
+     *
+     * 트랜잭션이 없으면 바로 무효화한다
+     */
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateAll();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateAll();
+            }
+        });
+    }
+
+    /**
+     * 결과 가중치 (문서 수 + 패싯 버킷 수, 최소 1)
+     */
+    private static int weigh(Key key, Object value) {
+        if (value instanceof Page<?> page) {
+            return 1 + page.getNumberOfElements();
+        }
+        if (value instanceof CursorPage<?> page) {
+            return 1 + page.getContent().size();
+        }
+        if (value instanceof BookFacetSearchResponse response) {
+            return 1 + response.books().size() + response.categories().size() + response.publishers().size()
+                    + response.priceRanges().size() + response.publishedYears().size();
+        }
+        return 1;
+    }
+
+    /**
+     * 검색 캐시 키
+     *
+     * @param kind    검색 종류 (keyword, cursor, facet, count 등)
+     * @param keyword 정규화된 키워드 (공백 정리, 소문자)
+     * @param params  페이지, 필터 등 나머지 조건
+     */
+    public record Key(String kind, String keyword, List<Object> params) {
+
+        /**
+         * 키워드를 정규화하여 캐시 키 생성
+         *
+         * @param kind    검색 종류
+         * @param keyword 검색 키워드 (null 허용)
+         * @param params  나머지 조건 (null 허용, equals/hashCode가 값 기준이어야 함)
+         * @return 캐시 키
+         */
+        public static Key of(String kind, String keyword, Object... params) {
+            return new Key(kind, normalize(keyword), Collections.unmodifiableList(Arrays.asList(params.clone())));
+        }
+
+        private static String normalize(String keyword) {
+            if (keyword == null || keyword.isBlank()) {
+                return "";
+            }
+            return keyword.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.BookDocument;
+import com.example.booksearch.dto.BookCursor;
+import com.example.booksearch.dto.BookSummary;
+import com.example.booksearch.dto.CursorPage;
+
+/**
+ * 키워드 커서 검색 엔진
+ *
+ * BookSearchRouter가 book.search.engine.primary / fallback 이름으로 구현체를 골라 사용한다
+ * 커서 형식은 엔진마다 다르므로, 다음 페이지 요청은 커서를 발급한 엔진으로 보내야 한다
+ * 구현체는 deadline을 넘기지 않도록 하위 호출의 타임아웃을 남은 시간으로 제한한다
+ */
+public interface BookSearchEngine {
+
+    /**
+     * 엔진 이름 (설정 값과 메트릭 태그로 사용)
+     *
+     * @return 엔진 이름
+     */
+    String name();
+
+    /**
+     * 이 엔진이 발급한 커서인지 여부
+     *
+     * @param cursor 디코딩된 커서
+     * @return 이 엔진으로 이어서 조회해야 하면 true
+     */
+    boolean supports(BookCursor cursor);
+
+    /**
+     * 키워드 커서 검색
+     *
+     * @param keyword  검색 키워드
+     * @param cursor   커서 토큰 (첫 페이지는 null)
+     * @param size     페이지 크기
+     * @param deadline 요청 deadline
+     * @return 검색 결과 (CursorPage)
+     * @throws IllegalArgumentException 커서가 올바르지 않을 경우
+     * @throws SearchTimeoutException   deadline 안에 끝나지 않았을 경우
+     */
+    CursorPage<BookDocument> searchBooks(String keyword, String cursor, int size, SearchDeadline deadline);
+
+    /**
+     * 키워드 요약 커서 검색 (목록 화면용)
+     *
+     * @param keyword  검색 키워드
+     * @param cursor   커서 토큰 (첫 페이지는 null)
+     * @param size     페이지 크기
+     * @param deadline 요청 deadline
+     * @return 도서 요약 검색 결과 (CursorPage)
+     * @throws IllegalArgumentException 커서가 올바르지 않을 경우
+     * @throws SearchTimeoutException   deadline 안에 끝나지 않았을 경우
+     */
+    CursorPage<BookSummary> searchBookSummaries(String keyword, String cursor, int size, SearchDeadline deadline);
+}
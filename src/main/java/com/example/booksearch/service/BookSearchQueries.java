@@ -0,0 +1,306 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.dto.BookSearchCondition;
+import com.example.booksearch.dto.BookSummary;
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.opensearch._types.FieldValue;
+import org.opensearch.client.opensearch._types.SortOptions;
+import org.opensearch.client.opensearch._types.SortOrder;
+import org.opensearch.client.opensearch._types.aggregations.Aggregation;
+import org.opensearch.client.opensearch._types.aggregations.AggregationRange;
+import org.opensearch.client.opensearch._types.aggregations.CalendarInterval;
+import org.opensearch.client.opensearch._types.query_dsl.Query;
+import org.opensearch.client.opensearch._types.query_dsl.TextQueryType;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.search.SourceConfig;
+import org.opensearch.client.opensearch.core.search.TrackHits;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 도서 검색 쿼리 생성기
+ *
+ * opensearch-java 타입 기반 Query DSL로 검색 요청을 구성한다
+ * 키워드는 JSON 직렬화 시 자동으로 이스케이프되므로 따옴표, 역슬래시, 제어 문자가 쿼리 구조를 깨뜨리지 않으며,
+ * 요청마다 JSON 문자열을 만들고 다시 파싱하는 비용이 없다
+ *
+ * 검색 대상 필드와 가중치 등 변하지 않는 부분은 불변 상수로 재사용한다
+ */
+public final class BookSearchQueries {
+
+    /** 키워드 검색 대상 필드와 가중치 (title > author > description) */
+    public static final List<String> KEYWORD_FIELDS = List.of("title^3", "author^2", "description");
+
+    /** 목록 화면용 _source 필터 (BookSummary 필드만 조회) */
+    public static final SourceConfig SUMMARY_SOURCE = SourceConfig.of(s -> s
+            .filter(f -> f.includes(BookSummary.SOURCE_FIELDS)));
+
+    /** 자동완성 대상 필드 (search_as_you_type 서브필드와 shingle 필드) */
+    public static final List<String> SUGGEST_FIELDS = List.of(
+            "title.suggest^2", "title.suggest._2gram^2", "title.suggest._3gram^2",
+            "author.suggest", "author.suggest._2gram", "author.suggest._3gram");
+
+    /** 자동완성 응답 _source 필터 (제목, 저자만 조회) */
+    private static final SourceConfig SUGGEST_SOURCE = SourceConfig.of(s -> s
+            .filter(f -> f.includes("title", "author")));
+
+    /** 전체 건수를 세지 않음 (커서 검색의 두 번째 페이지 이후) */
+    private static final TrackHits NO_TOTAL_HITS = TrackHits.of(t -> t.enabled(false));
+
+    /** search_after 정렬 기준 (스코어 내림차순, 동점 시 문서 id 오름차순) */
+    private static final List<SortOptions> SEARCH_AFTER_SORT = List.of(
+            SortOptions.of(so -> so.score(sc -> sc.order(SortOrder.Desc))),
+            SortOptions.of(so -> so.field(f -> f.field("id").order(SortOrder.Asc))));
+
+    /** 패싯 aggregation 이름 */
+    public static final String CATEGORY_FACET = "categories";
+    public static final String PUBLISHER_FACET = "publishers";
+    public static final String PRICE_FACET = "priceRanges";
+    public static final String PUBLISHED_YEAR_FACET = "publishedYears";
+
+    /** 카테고리/출판사 패싯 최대 버킷 수 */
+    private static final int CATEGORY_FACET_SIZE = 50;
+    private static final int PUBLISHER_FACET_SIZE = 20;
+
+    /** 가격 패싯 구간 (key는 응답 버킷 이름, from 이상 ~ to 미만) */
+    private static final List<AggregationRange> PRICE_RANGES = List.of(
+            AggregationRange.of(r -> r.key("~1만원").to("10000")),
+            AggregationRange.of(r -> r.key("1만원~2만원").from("10000").to("20000")),
+            AggregationRange.of(r -> r.key("2만원~3만원").from("20000").to("30000")),
+            AggregationRange.of(r -> r.key("3만원~").from("30000")));
+
+    /** 패싯 aggregation 정의 (조건과 무관하므로 재사용) */
+    private static final Map<String, Aggregation> FACET_AGGREGATIONS = Map.of(
+            CATEGORY_FACET, Aggregation.of(a -> a.terms(t -> t.field("category").size(CATEGORY_FACET_SIZE))),
+            PUBLISHER_FACET, Aggregation.of(a -> a.terms(t -> t.field("publisher").size(PUBLISHER_FACET_SIZE))),
+            PRICE_FACET, Aggregation.of(a -> a.range(r -> r.field("price").ranges(PRICE_RANGES))),
+            PUBLISHED_YEAR_FACET, Aggregation.of(a -> a.dateHistogram(d -> d
+                    .field("publishedDate")
+                    .calendarInterval(CalendarInterval.Year)
+                    .format("yyyy")
+                    .minDocCount(1))));
+
+    private BookSearchQueries() {
+    }
+
+    /**
+     * 키워드 multi_match 쿼리 생성
+     *
+     * @param keyword 검색 키워드
+     * @return best_fields 방식 multi_match 쿼리
+     */
+    public static Query keyword(String keyword) {
+        return Query.of(q -> q.multiMatch(m -> m
+                .query(keyword)
+                .fields(KEYWORD_FIELDS)
+                .type(TextQueryType.BestFields)));
+    }
+
+    /**
+     * search_after 기반 키워드 검색 요청 생성
+     *
+     * 스코어 내림차순 후 문서 id로 동점을 정렬해 페이지 경계가 항상 일정하며,
+     * from 없이 이전 페이지 마지막 hit의 sort 값 이후부터 조회하므로
+     * 깊은 페이지도 max_result_window 제한 없이 첫 페이지와 같은 비용으로 조회된다
+     * pitId가 있으면 PIT로 인덱스 상태를 고정해 페이지 이동 중 색인 변경이 있어도 결과가 중복/누락되지 않고,
+     * 없으면 indexName을 바로 검색한다 (첫 페이지)
+     * timeout을 넘긴 샤드는 그때까지 찾은 결과만 반환하고 응답에 timed_out이 표시된다
+     *
+     * @param indexName       검색 대상 인덱스 (alias, pitId가 null일 때만 사용)
+     * @param pitId           Point-in-Time ID (null이면 PIT 없이 검색)
+     * @param keepAlive       PIT 유지 시간 연장 값 (예: 5m)
+     * @param keyword         검색 키워드
+     * @param searchAfter     이전 페이지 마지막 hit의 sort 값 (첫 페이지는 null)
+     * @param size            조회 건수
+     * @param totalHitsPolicy 첫 페이지의 전체 건수 계산 정책 (이후 페이지는 세지 않음)
+     * @param source          _source 필터 (null이면 전체 필드)
+     * @param timeout         샤드 검색 제한 시간 (예: 800ms, null이면 제한 없음)
+     * @return 검색 요청
+     */
+    public static SearchRequest keywordSearchAfter(String indexName, String pitId, String keepAlive,
+                                                   String keyword, List<String> searchAfter, int size,
+                                                   TotalHitsPolicy totalHitsPolicy, SourceConfig source,
+                                                   String timeout) {
+        return SearchRequest.of(s -> {
+            if (pitId != null) {
+                s.pit(p -> p.id(pitId).keepAlive(keepAlive));
+            } else {
+                s.index(indexName);
+            }
+            s.query(keyword(keyword))
+                    .size(size)
+                    .sort(SEARCH_AFTER_SORT)
+                    // 전체 건수는 첫 페이지에서만 계산
+                    .trackTotalHits(searchAfter == null ? totalHitsPolicy.trackHits() : NO_TOTAL_HITS);
+            if (searchAfter != null) {
+                s.searchAfter(searchAfter);
+            }
+            if (source != null) {
+                s.source(source);
+            }
+            if (timeout != null) {
+                s.timeout(timeout);
+            }
+            return s;
+        });
+    }
+
+    /**
+     * 자동완성 요청 생성 (search_as_you_type + bool_prefix)
+     *
+     * 마지막 단어는 접두어로, 앞 단어들은 완성된 단어로 매칭한다
+     * 키 입력마다 호출되므로 제목/저자만 조회하고 전체 건수는 세지 않으며,
+     * 샤드 응답이 timeout을 넘으면 그때까지의 결과만 반환한다
+     *
+     * @param indexName 검색 대상 인덱스 (alias)
+     * @param prefix    입력 중인 문자열
+     * @param size      최대 제안 수
+     * @param timeout   샤드 검색 제한 시간 (예: 50ms)
+     * @return 자동완성 검색 요청
+     */
+    public static SearchRequest suggest(String indexName, String prefix, int size, String timeout) {
+        return SearchRequest.of(s -> s
+                .index(indexName)
+                .query(q -> q.multiMatch(m -> m
+                        .query(prefix)
+                        .type(TextQueryType.BoolPrefix)
+                        .fields(SUGGEST_FIELDS)))
+                .source(SUGGEST_SOURCE)
+                .size(size)
+                .trackTotalHits(NO_TOTAL_HITS)
+                .timeout(timeout));
+    }
+
+    /**
+     * 패싯 검색 요청 생성
+     *
+     * 키워드는 bool.must(스코어 계산)에, 카테고리/출판사/가격/출판일 조건은 bool.filter에 넣어
+     * 스코어 계산 없이 OpenSearch 필터 캐시를 활용한다
+     * 검색 결과와 패싯 aggregation을 한 번의 요청으로 함께 조회한다
+     *
+     * @param indexName       검색 대상 인덱스 (alias)
+     * @param condition       검색 조건
+     * @param pageable        페이지 및 정렬 정보
+     * @param totalHitsPolicy 전체 건수 계산 정책 (DISABLED면 한 건 더 조회)
+     * @return 패싯 검색 요청
+     */
+    public static SearchRequest facetedSearch(String indexName, BookSearchCondition condition, Pageable pageable,
+                                              TotalHitsPolicy totalHitsPolicy) {
+        return SearchRequest.of(s -> s
+                .index(indexName)
+                .query(filtered(condition))
+                .aggregations(FACET_AGGREGATIONS)
+                .from((int) pageable.getOffset())
+                .size(totalHitsPolicy.fetchSize(pageable.getPageSize()))
+                .sort(sortOptions(pageable.getSort()))
+                .trackTotalHits(totalHitsPolicy.trackHits()));
+    }
+
+    /**
+     * 필터 검색 결과 요청 생성 (aggregation 없음)
+     *
+     * facetCounts와 나눠 동시에 보내는 용도로, 조건과 페이지 처리는 facetedSearch와 같다
+     *
+     * @param indexName       검색 대상 인덱스 (alias)
+     * @param condition       검색 조건
+     * @param pageable        페이지 및 정렬 정보
+     * @param totalHitsPolicy 전체 건수 계산 정책 (DISABLED면 한 건 더 조회)
+     * @return 검색 요청
+     */
+    public static SearchRequest filteredSearch(String indexName, BookSearchCondition condition, Pageable pageable,
+                                               TotalHitsPolicy totalHitsPolicy) {
+        return SearchRequest.of(s -> s
+                .index(indexName)
+                .query(filtered(condition))
+                .from((int) pageable.getOffset())
+                .size(totalHitsPolicy.fetchSize(pageable.getPageSize()))
+                .sort(sortOptions(pageable.getSort()))
+                .trackTotalHits(totalHitsPolicy.trackHits()));
+    }
+
+    /**
+     * 패싯 집계 전용 요청 생성 (size 0)
+     *
+     * hit을 반환하지 않으므로 샤드 request cache 대상이 되어,
+     * 같은 조건으로 페이지만 바꾼 요청은 집계를 다시 계산하지 않는다
+     *
+     * @param indexName 검색 대상 인덱스 (alias)
+     * @param condition 검색 조건
+     * @return 패싯 집계 요청
+     */
+    public static SearchRequest facetCounts(String indexName, BookSearchCondition condition) {
+        return SearchRequest.of(s -> s
+                .index(indexName)
+                .query(filtered(condition))
+                .aggregations(FACET_AGGREGATIONS)
+                .size(0)
+                .trackTotalHits(NO_TOTAL_HITS));
+    }
+
+    /**
+     * 검색 조건 → bool 쿼리 변환
+     *
+     * @param condition 검색 조건
+     * @return 키워드(must) + 필터(filter) bool 쿼리
+     */
+    public static Query filtered(BookSearchCondition condition) {
+        List<Query> filters = new ArrayList<>();
+        if (condition.getCategory() != null && !condition.getCategory().isBlank()) {
+            filters.add(term("category", condition.getCategory()));
+        }
+        if (condition.getPublisher() != null && !condition.getPublisher().isBlank()) {
+            filters.add(term("publisher", condition.getPublisher()));
+        }
+        if (condition.getMinPrice() != null || condition.getMaxPrice() != null) {
+            filters.add(Query.of(q -> q.range(r -> {
+                r.field("price");
+                if (condition.getMinPrice() != null) {
+                    r.gte(JsonData.of(condition.getMinPrice()));
+                }
+                if (condition.getMaxPrice() != null) {
+                    r.lte(JsonData.of(condition.getMaxPrice()));
+                }
+                return r;
+            })));
+        }
+        if (condition.getPublishedFrom() != null || condition.getPublishedTo() != null) {
+            filters.add(Query.of(q -> q.range(r -> {
+                r.field("publishedDate").format("yyyy-MM-dd");
+                if (condition.getPublishedFrom() != null) {
+                    r.gte(JsonData.of(condition.getPublishedFrom().toString()));
+                }
+                if (condition.getPublishedTo() != null) {
+                    r.lte(JsonData.of(condition.getPublishedTo().toString()));
+                }
+                return r;
+            })));
+        }
+
+        Query must = condition.hasKeyword()
+                ? keyword(condition.getKeyword().trim())
+                : Query.of(q -> q.matchAll(m -> m));
+        return Query.of(q -> q.bool(b -> b.must(must).filter(filters)));
+    }
+
+    private static Query term(String field, String value) {
+        return Query.of(q -> q.term(t -> t.field(field).value(FieldValue.of(value))));
+    }
+
+    /**
+     * Spring Data Sort → OpenSearch 정렬 옵션 변환
+     *
+     * @param sort 정렬 정보
+     * @return 필드 정렬 옵션 목록 (정렬 없으면 빈 목록, 스코어순)
+     */
+    public static List<SortOptions> sortOptions(Sort sort) {
+        return sort.stream()
+                .map(order -> SortOptions.of(so -> so.field(f -> f
+                        .field(order.getProperty())
+                        .order(order.isAscending() ? SortOrder.Asc : SortOrder.Desc))))
+                .toList();
+    }
+}
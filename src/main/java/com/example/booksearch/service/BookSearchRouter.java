@@ -0,0 +1,228 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.BookDocument;
+import com.example.booksearch.dto.BookCursor;
+import com.example.booksearch.dto.BookSummary;
+import com.example.booksearch.dto.CursorPage;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키워드 커서 검색 라우터 (BookSearchEngine 선택)
+ *
+ * 기본은 book.search.engine.primary 엔진(OpenSearch)으로 처리하고,
+ * 다음 경우에는 book.search.engine.fallback 엔진(PostgreSQL)으로 처리한다
+ * <ul>
+ *   <li>bootstrap: 인덱스 bootstrap이 끝나기 전이고 book.search.fallback-until-ready가 켜져 있을 때</li>
+ *   <li>circuit-open: primary 서킷 브레이커가 열려 있을 때 (최근 실패율/느린 호출 비율 초과)</li>
+ *   <li>error: primary 호출이 실패했을 때 (요청 단위 failover)</li>
+ * </ul>
+ * 커서가 있는 요청은 커서를 발급한 엔진으로만 보낸다 (cursor, 엔진 간 커서 호환 없음)
+ *
+ * 요청마다 deadline(timeout 미지정 시 book.search.deadline.default, 최대 book.search.deadline.max)을 정해
+ * 엔진에 넘기며, primary가 deadline을 다 쓰고 실패하면 fallback 없이 SearchTimeoutException으로 끝낸다
+ * deadline 초과는 서킷 브레이커에 실패로 집계하지 않는다
+ * (요청 timeout이 slow-call-threshold보다 짧으면 집계하지 않고, 그 이상이면 느린 호출로 집계)
+ *
+ * 노출 메트릭:
+ * <ul>
+ *   <li>book.search.engine{engine, reason} - 엔진별 처리 요청 수와 선택 이유 (reason=timeout은 deadline 초과 실패)</li>
+ *   <li>book.search.circuit.state - primary 서킷 상태 (0: CLOSED, 1: HALF_OPEN, 2: OPEN)</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class BookSearchRouter {
+
+    private static final String METRIC_ENGINE = "book.search.engine";
+
+    private final BookSearchEngine primary;
+    private final BookSearchEngine fallback;
+    private final IndexBootstrapStatus indexBootstrapStatus;
+    private final MeterRegistry meterRegistry;
+
+    /** primary 서킷 브레이커 (비활성화 시 null) */
+    private final SearchCircuitBreaker circuitBreaker;
+
+    /** timeout을 지정하지 않은 요청의 deadline */
+    private final Duration defaultTimeout;
+
+    /** 요청이 지정할 수 있는 최대 timeout */
+    private final Duration maxTimeout;
+
+    public BookSearchRouter(List<BookSearchEngine> engines,
+                            IndexBootstrapStatus indexBootstrapStatus,
+                            MeterRegistry meterRegistry,
+                            @Value("${book.search.engine.primary:opensearch}") String primaryName,
+                            @Value("${book.search.engine.fallback:postgres}") String fallbackName,
+                            @Value("${book.search.circuit-breaker.enabled:true}") boolean circuitBreakerEnabled,
+                            @Value("${book.search.circuit-breaker.window-size:50}") int windowSize,
+                            @Value("${book.search.circuit-breaker.minimum-calls:20}") int minimumCalls,
+                            @Value("${book.search.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+                            @Value("${book.search.circuit-breaker.slow-call-threshold:PT1S}") Duration slowCallThreshold,
+                            @Value("${book.search.circuit-breaker.slow-call-rate-threshold:50}") int slowCallRateThreshold,
+                            @Value("${book.search.circuit-breaker.open-duration:PT30S}") Duration openDuration,
+                            @Value("${book.search.deadline.default:PT2S}") Duration defaultTimeout,
+                            @Value("${book.search.deadline.max:PT10S}") Duration maxTimeout) {
+        this.primary = findEngine(engines, primaryName);
+        this.fallback = findEngine(engines, fallbackName);
+        this.indexBootstrapStatus = indexBootstrapStatus;
+        this.meterRegistry = meterRegistry;
+        this.defaultTimeout = defaultTimeout;
+        this.maxTimeout = maxTimeout;
+        this.circuitBreaker = circuitBreakerEnabled
+                ? new SearchCircuitBreaker(windowSize, minimumCalls, failureRateThreshold,
+                        slowCallThreshold, slowCallRateThreshold, openDuration)
+                : null;
+
+        if (circuitBreaker != null) {
+            meterRegistry.gauge("book.search.circuit.state", circuitBreaker, breaker -> switch (breaker.state()) {
+                case CLOSED -> 0;
+                case HALF_OPEN -> 1;
+                case OPEN -> 2;
+            });
+        }
+    }
+
+    /**
+     * 키워드 커서 검색
+     *
+     * @param keyword 검색 키워드
+     * @param cursor  커서 토큰 (첫 페이지는 null)
+     * @param size    페이지 크기
+     * @return 검색 결과 (CursorPage)
+     * @throws IllegalArgumentException 커서가 올바르지 않을 경우
+     */
+    public CursorPage<BookDocument> searchBooks(String keyword, String cursor, int size) {
+        return searchBooks(keyword, cursor, size, null);
+    }
+
+    /**
+     * 키워드 커서 검색 (요청 timeout 지정)
+     *
+     * @param keyword 검색 키워드
+     * @param cursor  커서 토큰 (첫 페이지는 null)
+     * @param size    페이지 크기
+     * @param timeout 요청 제한 시간 (null이면 기본값, 최대값으로 제한)
+     * @return 검색 결과 (CursorPage, 샤드 timeout/실패 시 부분 결과)
+     * @throws IllegalArgumentException 커서가 올바르지 않을 경우
+     * @throws SearchTimeoutException   제한 시간 안에 끝나지 않았을 경우
+     */
+    public CursorPage<BookDocument> searchBooks(String keyword, String cursor, int size, Duration timeout) {
+        SearchDeadline deadline = deadline(timeout);
+        return route(cursor, deadline, engine -> engine.searchBooks(keyword, cursor, size, deadline));
+    }
+
+    /**
+     * 키워드 요약 커서 검색 (목록 화면용)
+     *
+     * @param keyword 검색 키워드
+     * @param cursor  커서 토큰 (첫 페이지는 null)
+     * @param size    페이지 크기
+     * @return 도서 요약 검색 결과 (CursorPage)
+     * @throws IllegalArgumentException 커서가 올바르지 않을 경우
+     */
+    public CursorPage<BookSummary> searchBookSummaries(String keyword, String cursor, int size) {
+        return searchBookSummaries(keyword, cursor, size, null);
+    }
+
+    /**
+     * 키워드 요약 커서 검색 (요청 timeout 지정)
+     *
+     * @param keyword 검색 키워드
+     * @param cursor  커서 토큰 (첫 페이지는 null)
+     * @param size    페이지 크기
+     * @param timeout 요청 제한 시간 (null이면 기본값, 최대값으로 제한)
+     * @return 도서 요약 검색 결과 (CursorPage, 샤드 timeout/실패 시 부분 결과)
+     * @throws IllegalArgumentException 커서가 올바르지 않을 경우
+     * @throws SearchTimeoutException   제한 시간 안에 끝나지 않았을 경우
+     */
+    public CursorPage<BookSummary> searchBookSummaries(String keyword, String cursor, int size, Duration timeout) {
+        SearchDeadline deadline = deadline(timeout);
+        return route(cursor, deadline, engine -> engine.searchBookSummaries(keyword, cursor, size, deadline));
+    }
+
+    private SearchDeadline deadline(Duration timeout) {
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            return SearchDeadline.after(defaultTimeout);
+        }
+        return SearchDeadline.after(timeout.compareTo(maxTimeout) > 0 ? maxTimeout : timeout);
+    }
+
+    // ── 엔진 선택 ────────────────────────────────────
+
+    private <T> T route(String cursor, SearchDeadline deadline, Function<BookSearchEngine, T> search) {
+        BookCursor decoded = BookCursor.decode(cursor);
+        if (decoded != null) {
+            BookSearchEngine owner = primary.supports(decoded) ? primary : fallback;
+            return serve(owner, "cursor", search);
+        }
+        if (indexBootstrapStatus.isServingFallback()) {
+            return serve(fallback, "bootstrap", search);
+        }
+        if (circuitBreaker == null) {
+            return serve(primary, "primary", search);
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            return serve(fallback, "circuit-open", search);
+        }
+
+        long startedAt = System.nanoTime();
+        long budgetNanos = deadline.remainingNanos();
+        T result;
+        try {
+            result = search.apply(primary);
+        } catch (IllegalArgumentException e) {
+            // 요청 오류는 엔진 장애가 아니므로 실패로 집계하지 않는다
+            circuitBreaker.release();
+            throw e;
+        } catch (SearchTimeoutException e) {
+            // 호출자가 정한 시간 안에 못 끝낸 것은 엔진 실패가 아니라 느린 호출이다
+            circuitBreaker.onTimeout(budgetNanos);
+            return failover(e, deadline, search);
+        } catch (RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - startedAt);
+            return failover(e, deadline, search);
+        } catch (Error e) {
+            // 결과를 기록하지 않으면 HALF_OPEN 시험 호출이 끝나지 않은 것으로 남아 서킷이 닫히지 않는다
+            circuitBreaker.onError(System.nanoTime() - startedAt);
+            throw e;
+        }
+        circuitBreaker.onSuccess(System.nanoTime() - startedAt);
+        countServed(primary, "primary");
+        return result;
+    }
+
+    private <T> T failover(RuntimeException e, SearchDeadline deadline, Function<BookSearchEngine, T> search) {
+        if (deadline.isExpired()) {
+            // fallback할 시간이 남지 않음
+            countServed(primary, "timeout");
+            throw e;
+        }
+        log.warn("{} 검색 실패, {}로 대체: {}", primary.name(), fallback.name(), e.getMessage());
+        return serve(fallback, "error", search);
+    }
+
+    private <T> T serve(BookSearchEngine engine, String reason, Function<BookSearchEngine, T> search) {
+        T result = search.apply(engine);
+        countServed(engine, reason);
+        return result;
+    }
+
+    private void countServed(BookSearchEngine engine, String reason) {
+        meterRegistry.counter(METRIC_ENGINE, "engine", engine.name(), "reason", reason).increment();
+    }
+
+    private static BookSearchEngine findEngine(List<BookSearchEngine> engines, String name) {
+        return engines.stream()
+                .filter(engine -> engine.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("검색 엔진을 찾을 수 없습니다. name=" + name));
+    }
+}
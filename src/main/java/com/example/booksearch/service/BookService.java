@@ -1,21 +1,30 @@
 package com.example.booksearch.service;
 
 import com.example.booksearch.domain.Book;
+import com.example.booksearch.domain.BookIndexOutbox;
+import com.example.booksearch.dto.BookCursor;
 import com.example.booksearch.dto.BookRequestDto;
+import com.example.booksearch.dto.CursorPage;
+import com.example.booksearch.repository.BookIndexOutboxRepository;
 import com.example.booksearch.repository.BookRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * 도서 CRUD 비즈니스 로직 서비스
  *
- * PostgreSQL 저장 후 OpenSearch에 동기화하여
+ * PostgreSQL 저장과 같은 트랜잭션에서 인덱싱 Outbox 레코드를 기록하고,
+ * BookIndexOutboxDispatcher가 비동기로 OpenSearch에 반영하여
  * 양쪽 저장소의 데이터 일관성을 유지한다
+ * 변경 트랜잭션이 커밋되면 검색 결과 캐시와 도서 엔티티 캐시를 무효화한다
  */
 @Service
 @RequiredArgsConstructor
@@ -23,7 +32,9 @@ import java.util.List;
 public class BookService {
 
     private final BookRepository bookRepository;
-    private final BookIndexService bookIndexService;
+    private final BookIndexOutboxRepository bookIndexOutboxRepository;
+    private final BookSearchCache bookSearchCache;
+    private final BookEntityCache bookEntityCache;
 
     /**
      * 도서 등록
@@ -33,7 +44,15 @@ public class BookService {
      */
     @Transactional
     public Book createBook(BookRequestDto request) {
-        Book book = Book.builder()
+        Book savedBook = bookRepository.save(toBook(request));
+        bookIndexOutboxRepository.save(BookIndexOutbox.index(savedBook.getId()));
+        bookSearchCache.invalidateAfterCommit();
+        bookEntityCache.invalidateAfterCommit(savedBook.getId(), Collections.singletonList(savedBook.getIsbn()));
+        return savedBook;
+    }
+
+    private static Book toBook(BookRequestDto request) {
+        return Book.builder()
                 .title(request.getTitle())
                 .author(request.getAuthor())
                 .publisher(request.getPublisher())
@@ -45,24 +64,36 @@ public class BookService {
                 .stockQuantity(request.getStockQuantity())
                 .coverImageUrl(request.getCoverImageUrl())
                 .build();
-
-        Book savedBook = bookRepository.save(book);
-        bookIndexService.indexBook(savedBook);
-        return savedBook;
     }
 
     /**
-     * ID 기반 도서 조회
+     * ID 기반 도서 조회 (엔티티 캐시 read-through)
+     *
+     * 반환된 도서는 캐시와 공유되는 읽기 전용 인스턴스이므로 수정하지 않는다
      *
      * @param id 도서 ID
      * @return 도서 엔티티
      * @throws IllegalArgumentException 해당 ID의 도서가 없을 경우
      */
     public Book findById(Long id) {
-        return bookRepository.findById(id)
+        return bookEntityCache.getById(id, bookRepository::findById)
                 .orElseThrow(() -> new IllegalArgumentException("도서를 찾을 수 없습니다. id=" + id));
     }
 
+    /**
+     * ISBN 기반 도서 조회 (엔티티 캐시 read-through)
+     *
+     * 반환된 도서는 캐시와 공유되는 읽기 전용 인스턴스이므로 수정하지 않는다
+     *
+     * @param isbn ISBN
+     * @return 도서 엔티티
+     * @throws IllegalArgumentException 해당 ISBN의 도서가 없을 경우
+     */
+    public Book findByIsbn(String isbn) {
+        return bookEntityCache.getByIsbn(isbn, bookRepository::findByIsbn)
+                .orElseThrow(() -> new IllegalArgumentException("도서를 찾을 수 없습니다. isbn=" + isbn));
+    }
+
     /**
      * 전체 도서 목록 페이징 조회
      *
@@ -74,12 +105,32 @@ public class BookService {
     }
 
     /**
-     * 전체 도서 목록 조회
+     * 전체 도서 목록 커서 페이징 조회 (ID 내림차순)
+     *
+     * OFFSET 대신 이전 페이지의 마지막 ID 이후만 조회하므로 깊은 페이지도 첫 페이지와 비용이 같다
+     * 전체 건수는 첫 페이지에서만 세고 커서에 담아 전달한다
      *
-     * @return 전체 도서 리스트
+     * @param cursor 커서 토큰 (첫 페이지는 null)
+     * @param size   페이지 크기
+     * @return 도서 목록 (CursorPage)
+     * @throws IllegalArgumentException 커서가 올바르지 않을 경우
      */
-    public List<Book> findAll() {
-        return bookRepository.findAll();
+    public CursorPage<Book> findAll(String cursor, int size) {
+        BookCursor decoded = BookCursor.decode(cursor);
+        if (decoded != null && !decoded.isIdCursor()) {
+            throw new IllegalArgumentException("도서 목록 커서가 아닙니다. cursor=" + cursor);
+        }
+
+        long lastId = decoded != null ? decoded.lastId() : Long.MAX_VALUE;
+        long total = decoded != null ? decoded.total() : bookRepository.count();
+
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        List<Book> rows = bookRepository.findByIdLessThanOrderByIdDesc(lastId, Limit.of(size + 1));
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, total, null);
+        }
+        List<Book> content = List.copyOf(rows.subList(0, size));
+        return new CursorPage<>(content, total, BookCursor.ofId(content.get(size - 1).getId(), total).encode());
     }
 
     /**
@@ -91,9 +142,12 @@ public class BookService {
      */
     @Transactional
     public Book updateBook(Long id, BookRequestDto request) {
-        Book book = findById(id);
+        Book book = getManagedBook(id);
+        String previousIsbn = book.getIsbn();
         book.update(request);
-        bookIndexService.indexBook(book);
+        bookIndexOutboxRepository.save(BookIndexOutbox.index(book.getId()));
+        bookSearchCache.invalidateAfterCommit();
+        bookEntityCache.invalidateAfterCommit(id, Arrays.asList(previousIsbn, book.getIsbn()));
         return book;
     }
 
@@ -104,9 +158,19 @@ public class BookService {
      */
     @Transactional
     public void deleteBook(Long id) {
-        Book book = findById(id);
+        Book book = getManagedBook(id);
         bookRepository.delete(book);
-        bookIndexService.deleteBook(id);
+        bookIndexOutboxRepository.save(BookIndexOutbox.delete(id));
+        bookSearchCache.invalidateAfterCommit();
+        bookEntityCache.invalidateAfterCommit(id, Collections.singletonList(book.getIsbn()));
+    }
+
+    /**
+     * 변경용 도서 조회 (캐시를 거치지 않고 현재 영속성 컨텍스트에서 조회)
+     */
+    private Book getManagedBook(Long id) {
+        return bookRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("도서를 찾을 수 없습니다. id=" + id));
     }
 
     /**
@@ -119,11 +183,11 @@ public class BookService {
     }
 
     /**
-     * 등록된 카테고리 목록 조회
+     * 등록된 카테고리 목록 조회 (도서 변경 시까지 메모이즈)
      *
      * @return 카테고리 목록
      */
     public List<String> findCategories() {
-        return bookRepository.findDistinctCategories();
+        return bookEntityCache.getCategories(bookRepository::findDistinctCategories);
     }
 }
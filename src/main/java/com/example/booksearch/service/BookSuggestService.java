@@ -0,0 +1,164 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.dto.BookSuggestion;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 도서 자동완성(search-as-you-type) 서비스
+ *
+ * title.suggest, author.suggest 서브필드에 bool_prefix 쿼리를 보내 입력 중인 접두어에 맞는 도서를 제안한다
+ *
+ * 키 입력마다 요청이 들어오므로 입력 세션(session)별로 마지막 요청만 유효하게 처리한다
+ * <ul>
+ *   <li>같은 세션에 더 최신 요청(seq가 큰 요청)이 오면 진행 중인 이전 요청의 HTTP 호출을 취소</li>
+ *   <li>이미 더 최신 요청이 처리된 뒤 늦게 도착한 요청은 OpenSearch를 조회하지 않고 폐기</li>
+ * </ul>
+ * 폐기/취소된 요청은 CancellationException으로 완료된다
+ *
+ * 노출 메트릭:
+ * <ul>
+ *   <li>book.suggest.superseded - 더 최신 입력으로 취소/폐기된 요청 수</li>
+ * </ul>
+ */
+@Service
+public class BookSuggestService {
+
+    @SuppressWarnings("unchecked")
+    private static final Class<Map<String, Object>> SOURCE_TYPE = (Class<Map<String, Object>>) (Class<?>) Map.class;
+
+    /** 입력 문자열 최대 길이 (초과분은 무시) */
+    private static final int MAX_PREFIX_LENGTH = 50;
+
+    private final OpenSearchAsyncClient openSearchAsyncClient;
+
+    /** 최대 제안 수 */
+    private final int size;
+
+    /** 샤드 검색 제한 시간 */
+    private final String timeout;
+
+    /** 입력 세션별 마지막 요청 (일정 시간 입력이 없으면 제거) */
+    private final Cache<String, InFlight> latestBySession = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(1))
+            .maximumSize(100_000)
+            .build();
+
+    private final Counter supersededCounter;
+
+    public BookSuggestService(OpenSearchAsyncClient openSearchAsyncClient,
+                              MeterRegistry meterRegistry,
+                              @Value("${book.suggest.size:10}") int size,
+                              @Value("${book.suggest.timeout:50ms}") String timeout) {
+        this.openSearchAsyncClient = openSearchAsyncClient;
+        this.size = size;
+        this.timeout = timeout;
+        this.supersededCounter = meterRegistry.counter("book.suggest.superseded");
+    }
+
+    /**
+     * 자동완성 제안 조회
+     *
+     * @param prefix    입력 중인 문자열
+     * @param sessionId 입력 세션 ID (검색창 단위, null이면 취소/폐기 없이 조회)
+     * @param seq       세션 내 요청 순번 (키 입력마다 증가)
+     * @return 제안 목록, 더 최신 요청에 밀려나면 CancellationException으로 완료
+     */
+    public CompletableFuture<List<BookSuggestion>> suggest(String prefix, String sessionId, long seq) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        if (sessionId == null || sessionId.isBlank()) {
+            return search(normalized);
+        }
+
+        InFlight previous = latestBySession.getIfPresent(sessionId);
+        if (previous != null && previous.seq() > seq) {
+            // 이미 더 최신 입력이 처리 중이거나 처리됨
+            supersededCounter.increment();
+            return CompletableFuture.failedFuture(new CancellationException("이전 입력의 자동완성 요청"));
+        }
+
+        CompletableFuture<List<BookSuggestion>> future = search(normalized);
+        InFlight current = new InFlight(seq, future);
+        InFlight[] replaced = new InFlight[1];
+        InFlight winner = latestBySession.asMap().compute(sessionId, (key, existing) -> {
+            if (existing != null && existing.seq() > seq) {
+                return existing;
+            }
+            replaced[0] = existing;
+            return current;
+        });
+
+        if (winner != current) {
+            // 동시에 도착한 더 최신 요청에 밀림
+            future.cancel(true);
+            supersededCounter.increment();
+        } else if (replaced[0] != null && !replaced[0].future().isDone()) {
+            replaced[0].future().cancel(true);
+            supersededCounter.increment();
+        }
+        return future;
+    }
+
+    private CompletableFuture<List<BookSuggestion>> search(String prefix) {
+        SearchRequest request = BookSearchQueries.suggest(BookIndexService.INDEX_NAME, prefix, size, timeout);
+        CompletableFuture<SearchResponse<Map<String, Object>>> response;
+        try {
+            response = openSearchAsyncClient.search(request, SOURCE_TYPE);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        // 반환 future 취소 시 HTTP 요청(response future)도 함께 취소
+        CompletableFuture<List<BookSuggestion>> result = response.thenApply(this::toSuggestions);
+        result.whenComplete((suggestions, error) -> {
+            if (result.isCancelled()) {
+                response.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private List<BookSuggestion> toSuggestions(SearchResponse<Map<String, Object>> response) {
+        return response.hits().hits().stream()
+                .map(hit -> {
+                    Map<String, Object> source = hit.source() != null ? hit.source() : Map.of();
+                    return new BookSuggestion(Long.valueOf(hit.id()),
+                            (String) source.get("title"), (String) source.get("author"));
+                })
+                .toList();
+    }
+
+    private static String normalize(String prefix) {
+        if (prefix == null) {
+            return "";
+        }
+        String trimmed = prefix.strip();
+        return trimmed.length() > MAX_PREFIX_LENGTH ? trimmed.substring(0, MAX_PREFIX_LENGTH) : trimmed;
+    }
+
+    /**
+     * 세션별 진행 중인 요청
+     *
+     * @param seq    요청 순번
+     * @param future 요청 결과
+     */
+    private record InFlight(long seq, CompletableFuture<List<BookSuggestion>> future) {
+    }
+}
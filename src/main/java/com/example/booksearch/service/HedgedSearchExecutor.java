@@ -0,0 +1,266 @@
+package com.example.booksearch.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.http.client.config.RequestConfig;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.transport.TransportOptions;
+import org.opensearch.client.transport.rest_client.RestClientOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * deadline 제한 검색 요청 실행기 (hedged request 지원)
+ *
+ * 검색 요청마다 남은 deadline을 HTTP 클라이언트(연결/소켓 타임아웃)에 적용하고,
+ * 응답을 남은 시간만큼만 기다린 뒤 넘으면 HTTP 요청을 취소하고 SearchTimeoutException을 던진다
+ *
+ * book.search.hedge.enabled=true면 첫 요청이 최근 검색 지연 p95(최소 min-delay)를 넘도록 응답하지 않을 때
+ * 같은 요청을 한 번 더 보내고 먼저 성공한 응답을 사용한다 (나머지 요청은 취소)
+ * RestClient가 노드를 라운드로빈으로 고르므로 opensearch.uris에 노드가 여럿이면 두 번째 요청은 다른 노드로 간다
+ * p95 기준이므로 정상 상태에서 추가 요청은 검색의 약 5%로 제한되며, 표본이 min-samples보다 적으면 보내지 않는다
+ *
+ * 노출 메트릭:
+ * <ul>
+ *   <li>book.search.hedge.sent - 보낸 hedged 요청 수</li>
+ *   <li>book.search.hedge.won - hedged 요청이 먼저 성공한 수</li>
+ *   <li>book.opensearch.requests{operation=search-hedge} - hedged 요청 왕복 시간 (취소 포함)</li>
+ * </ul>
+ */
+@Component
+public class HedgedSearchExecutor {
+
+    @SuppressWarnings("unchecked")
+    private static final Class<Map<String, Object>> SOURCE_TYPE = (Class<Map<String, Object>>) (Class<?>) Map.class;
+
+    private final OpenSearchAsyncClient openSearchAsyncClient;
+    private final OpenSearchMetrics openSearchMetrics;
+
+    /** 기본 연결 타임아웃 (남은 deadline이 더 짧으면 그 값을 사용) */
+    private final long connectTimeoutMillis;
+
+    private final boolean hedgeEnabled;
+    private final long hedgeMinDelayNanos;
+    private final int hedgeMinSamples;
+
+    /** 최근 첫 요청 지연 표본 (hedge 지연 계산용) */
+    private final LatencyWindow latencies = new LatencyWindow(256);
+
+    private final Counter hedgeSent;
+    private final Counter hedgeWon;
+
+    public HedgedSearchExecutor(OpenSearchAsyncClient openSearchAsyncClient,
+                                OpenSearchMetrics openSearchMetrics,
+                                MeterRegistry meterRegistry,
+                                @Value("${opensearch.client.connect-timeout:PT1S}") Duration connectTimeout,
+                                @Value("${book.search.hedge.enabled:false}") boolean hedgeEnabled,
+                                @Value("${book.search.hedge.min-delay:PT0.02S}") Duration hedgeMinDelay,
+                                @Value("${book.search.hedge.min-samples:100}") int hedgeMinSamples) {
+        this.openSearchAsyncClient = openSearchAsyncClient;
+        this.openSearchMetrics = openSearchMetrics;
+        this.connectTimeoutMillis = connectTimeout.toMillis();
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgeMinDelayNanos = hedgeMinDelay.toNanos();
+        this.hedgeMinSamples = hedgeMinSamples;
+        this.hedgeSent = meterRegistry.counter("book.search.hedge.sent");
+        this.hedgeWon = meterRegistry.counter("book.search.hedge.won");
+    }
+
+    /**
+     * deadline 안에서 검색 실행
+     *
+     * @param request  검색 요청 (샤드 timeout은 호출자가 지정)
+     * @param deadline 요청 deadline
+     * @return 검색 응답 (샤드 timeout/실패로 부분 결과일 수 있음)
+     * @throws SearchTimeoutException deadline 안에 응답을 받지 못했을 경우
+     */
+    public SearchResponse<Map<String, Object>> search(SearchRequest request, SearchDeadline deadline) {
+        deadline.check("search");
+        OpenSearchAsyncClient client = openSearchAsyncClient.withTransportOptions(transportOptions(deadline));
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<SearchResponse<Map<String, Object>>> first = send(client, "search", request);
+        first.whenComplete((response, error) -> {
+            // hedge에 밀려 취소된 요청도 취소 시점까지의 지연을 표본으로 남겨 p95가 낮게 치우치지 않게 한다
+            if (error == null || first.isCancelled()) {
+                latencies.record(System.nanoTime() - startedAt);
+            }
+        });
+
+        long hedgeDelay = hedgeDelayNanos();
+        if (hedgeDelay < 0 || hedgeDelay >= deadline.remainingNanos()) {
+            return await(deadline, first, first);
+        }
+
+        try {
+            return first.get(hedgeDelay, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 첫 요청이 p95보다 느리면 두 번째 요청을 보내고 먼저 성공한 응답 사용
+        } catch (InterruptedException e) {
+            first.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new SearchTimeoutException("검색 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+
+        hedgeSent.increment();
+        CompletableFuture<SearchResponse<Map<String, Object>>> hedge = send(client, "search-hedge", request);
+        SearchResponse<Map<String, Object>> response = await(deadline, firstSuccess(first, hedge), first, hedge);
+        if (!hedge.isCompletedExceptionally() && hedge.getNow(null) == response) {
+            hedgeWon.increment();
+        }
+        return response;
+    }
+
+    /**
+     * 남은 deadline을 적용한 요청 옵션 (동기 클라이언트의 PIT 생성 등에도 사용)
+     *
+     * 기존 transport 옵션(헤더 등)은 유지하고 연결/소켓/커넥션 대기 타임아웃만 남은 시간으로 바꾼다
+     *
+     * @param deadline 요청 deadline
+     * @return 요청 옵션
+     */
+    public TransportOptions transportOptions(SearchDeadline deadline) {
+        int remaining = (int) Math.min(Integer.MAX_VALUE, Math.max(1, deadline.remainingMillis()));
+        RequestOptions.Builder options = openSearchAsyncClient._transport().options() instanceof RestClientOptions base
+                ? base.restClientRequestOptions().toBuilder()
+                : RequestOptions.DEFAULT.toBuilder();
+        options.setRequestConfig(RequestConfig.custom()
+                .setConnectTimeout((int) Math.min(connectTimeoutMillis, remaining))
+                .setConnectionRequestTimeout(remaining)
+                .setSocketTimeout(remaining)
+                .build());
+        return new RestClientOptions(options.build());
+    }
+
+    private CompletableFuture<SearchResponse<Map<String, Object>>> send(OpenSearchAsyncClient client, String operation,
+                                                                         SearchRequest request) {
+        CompletableFuture<SearchResponse<Map<String, Object>>> future;
+        try {
+            future = client.search(request, SOURCE_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // 취소가 HTTP 요청까지 전달되도록 계측은 별도 체인에 붙이고 원래 future를 반환
+        openSearchMetrics.recordAsync(operation, () -> future, SearchResponse::took);
+        return future;
+    }
+
+    /** hedge 지연 (hedge를 보내지 않으면 -1) */
+    private long hedgeDelayNanos() {
+        if (!hedgeEnabled) {
+            return -1;
+        }
+        long p95 = latencies.p95(hedgeMinSamples);
+        return p95 < 0 ? -1 : Math.max(hedgeMinDelayNanos, p95);
+    }
+
+    private static <T> T await(SearchDeadline deadline, CompletableFuture<T> result,
+                               CompletableFuture<?>... inFlight) {
+        try {
+            return result.get(deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new SearchTimeoutException("검색 deadline 초과: 응답 대기");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SearchTimeoutException("검색 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            if (deadline.isExpired()) {
+                // 소켓 타임아웃 등 deadline에 맞춘 HTTP 타임아웃으로 먼저 끝난 경우
+                throw new SearchTimeoutException("검색 deadline 초과: " + e.getCause().getMessage(), e.getCause());
+            }
+            throw unwrap(e);
+        } finally {
+            // 완료된 요청에는 영향 없음, 남은 요청의 HTTP 호출 중단
+            Arrays.stream(inFlight).forEach(future -> future.cancel(true));
+        }
+    }
+
+    /** 먼저 성공한 응답으로 완료, 둘 다 실패하면 마지막 실패로 완료 */
+    private static <T> CompletableFuture<T> firstSuccess(CompletableFuture<T> first, CompletableFuture<T> second) {
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (CompletableFuture<T> future : List.of(first, second)) {
+            future.whenComplete((response, error) -> {
+                if (error == null) {
+                    winner.complete(response);
+                } else if (failures.incrementAndGet() == 2) {
+                    winner.completeExceptionally(error);
+                }
+            });
+        }
+        return winner;
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof IOException ioException) {
+            return new UncheckedIOException(ioException);
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    /**
+     * 최근 지연 표본 링 버퍼
+     *
+     * p95는 일정 건수마다 다시 계산해 캐시하므로 요청마다 정렬하지 않는다
+     */
+    private static final class LatencyWindow {
+
+        private static final int RECOMPUTE_INTERVAL = 16;
+
+        private final long[] samples;
+        private int next;
+        private int count;
+        private int sinceRecompute;
+        private volatile long p95 = -1;
+
+        private LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        private synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+            if (++sinceRecompute >= RECOMPUTE_INTERVAL) {
+                sinceRecompute = 0;
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                p95 = sorted[(int) Math.ceil(count * 0.95) - 1];
+            }
+        }
+
+        /** 표본이 minSamples보다 적으면 -1 */
+        private long p95(int minSamples) {
+            synchronized (this) {
+                if (count < minSamples) {
+                    return -1;
+                }
+            }
+            return p95;
+        }
+    }
+}
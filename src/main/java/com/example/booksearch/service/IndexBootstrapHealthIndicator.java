@@ -0,0 +1,42 @@
+package com.example.booksearch.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인덱스 준비 상태 헬스 인디케이터 (/actuator/health/readiness에 포함)
+ *
+ * <ul>
+ *   <li>READY - UP</li>
+ *   <li>INDEXING - PostgreSQL fallback이 켜져 있으면 UP, 아니면 OUT_OF_SERVICE (트래픽을 받지 않음)</li>
+ *   <li>FAILED - PostgreSQL fallback이 켜져 있으면 UP, 아니면 DOWN</li>
+ * </ul>
+ */
+@Component("indexBootstrap")
+@RequiredArgsConstructor
+public class IndexBootstrapHealthIndicator implements HealthIndicator {
+
+    private final IndexBootstrapStatus indexBootstrapStatus;
+
+    @Override
+    public Health health() {
+        IndexBootstrapStatus.State state = indexBootstrapStatus.getState();
+        Status status = switch (state) {
+            case READY -> Status.UP;
+            case INDEXING -> indexBootstrapStatus.isServingFallback() ? Status.UP : Status.OUT_OF_SERVICE;
+            case FAILED -> indexBootstrapStatus.isServingFallback() ? Status.UP : Status.DOWN;
+        };
+
+        Health.Builder builder = Health.status(status)
+                .withDetail("state", state.name().toLowerCase())
+                .withDetail("since", indexBootstrapStatus.getChangedAt().toString())
+                .withDetail("fallback", indexBootstrapStatus.isServingFallback());
+        if (indexBootstrapStatus.getError() != null) {
+            builder.withDetail("error", indexBootstrapStatus.getError());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.booksearch.service;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기동 시 인덱스 준비(bootstrap) 상태
+ *
+ * DataInitializer가 인덱스 생성, 초기 적재 또는 증분 동기화를 마치면 READY가 된다
+ * 비동기 bootstrap이 실패하면 FAILED로 남았다가 백오프 후 재시도를 시작할 때 다시 INDEXING이 된다
+ * 비동기 bootstrap 모드에서는 애플리케이션이 먼저 요청을 받기 시작하므로,
+ * 검색 경로(BookSearchRouter)와 헬스체크가 이 상태를 보고 동작을 정한다
+ */
+@Component
+public class IndexBootstrapStatus {
+
+    /**
+     * 준비 상태
+     */
+    public enum State {
+        /** 인덱스 생성/적재/동기화 진행 중 */
+        INDEXING,
+        /** 인덱스가 DB를 따라잡음 */
+        READY,
+        /** bootstrap 실패, 재시도 대기 중 (인덱스가 DB보다 뒤처졌을 수 있음) */
+        FAILED
+    }
+
+    /** 인덱스가 준비되기 전 검색을 PostgreSQL로 처리할지 여부 */
+    private final boolean fallbackUntilReady;
+
+    /** 현재 상태 */
+    @Getter
+    private volatile State state = State.INDEXING;
+
+    /** 마지막 상태 변경 시각 */
+    @Getter
+    private volatile LocalDateTime changedAt = LocalDateTime.now();
+
+    /** 실패 사유 (FAILED일 때) */
+    @Getter
+    private volatile String error;
+
+    public IndexBootstrapStatus(@Value("${book.search.fallback-until-ready:true}") boolean fallbackUntilReady) {
+        this.fallbackUntilReady = fallbackUntilReady;
+    }
+
+    /**
+     * 준비 완료 기록
+     */
+    public void markReady() {
+        this.error = null;
+        this.state = State.READY;
+        this.changedAt = LocalDateTime.now();
+    }
+
+    /**
+     * bootstrap 재시도 시작 기록 (FAILED → INDEXING)
+     *
+     * 이전 실패 사유는 READY가 될 때까지 유지한다
+     */
+    public void markIndexing() {
+        this.state = State.INDEXING;
+        this.changedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실패 기록
+     *
+     * @param cause 실패 원인
+     */
+    public void markFailed(Throwable cause) {
+        this.error = cause.getMessage();
+        this.state = State.FAILED;
+        this.changedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 인덱스 준비 여부
+     *
+     * @return READY면 true
+     */
+    public boolean isReady() {
+        return state == State.READY;
+    }
+
+    /**
+     * 검색을 PostgreSQL fallback으로 처리해야 하는지 여부
+     *
+     * @return 인덱스가 준비되지 않았고 fallback이 켜져 있으면 true
+     */
+    public boolean isServingFallback() {
+        return fallbackUntilReady && !isReady();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.booksearch.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 페이지 요청 값이 올바르지 않음 (API 응답은 400)
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidPageRequestException extends IllegalArgumentException {
+
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
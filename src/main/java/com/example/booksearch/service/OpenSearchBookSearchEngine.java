@@ -0,0 +1,43 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.BookDocument;
+import com.example.booksearch.dto.BookCursor;
+import com.example.booksearch.dto.BookSummary;
+import com.example.booksearch.dto.CursorPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * OpenSearch 검색 엔진 (PIT + search_after, BookIndexService에 위임)
+ *
+ * deadline은 HTTP 요청 타임아웃과 샤드 timeout으로 전달되며, 부분 결과는 CursorPage에 표시된다
+ */
+@Component
+@RequiredArgsConstructor
+public class OpenSearchBookSearchEngine implements BookSearchEngine {
+
+    public static final String NAME = "opensearch";
+
+    private final BookIndexService bookIndexService;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean supports(BookCursor cursor) {
+        return cursor.isSearchCursor();
+    }
+
+    @Override
+    public CursorPage<BookDocument> searchBooks(String keyword, String cursor, int size, SearchDeadline deadline) {
+        return bookIndexService.searchBooks(keyword, cursor, size, deadline);
+    }
+
+    @Override
+    public CursorPage<BookSummary> searchBookSummaries(String keyword, String cursor, int size,
+                                                       SearchDeadline deadline) {
+        return bookIndexService.searchBookSummaries(keyword, cursor, size, deadline);
+    }
+}
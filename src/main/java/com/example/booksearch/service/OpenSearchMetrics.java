@@ -0,0 +1,198 @@
+package com.example.booksearch.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * OpenSearch 호출, 검색, 인덱싱 Micrometer 계측
+ *
+ * 클라이언트 왕복 시간과 OpenSearch가 응답에 보고한 took을 함께 기록하여
+ * 클러스터 처리 시간과 직렬화/네트워크/커넥션 대기 시간을 구분할 수 있게 한다
+ *
+ * 노출 메트릭 (/actuator/prometheus):
+ * <ul>
+ *   <li>book.opensearch.requests (operation, outcome, exception) - 클라이언트 왕복 시간</li>
+ *   <li>book.opensearch.took (operation) - OpenSearch 보고 처리 시간 (took을 주는 응답만)</li>
+ *   <li>book.opensearch.overhead (operation) - 왕복 시간 - took</li>
+ *   <li>book.search (kind, outcome) - 검색 메서드 전체 시간 (캐시 적중 포함)</li>
+ *   <li>book.index.bulk.docs, book.index.bulk.bytes - 벌크 요청 1건의 액션 수 / 추정 크기</li>
+ *   <li>book.index.bulk.item.failures (type) - 벌크 응답의 문서 단위 실패 수 (재시도 대상 포함)</li>
+ * </ul>
+ */
+@Component
+public class OpenSearchMetrics {
+
+    private static final String SUCCESS = "success";
+    private static final String ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary bulkDocs;
+    private final DistributionSummary bulkBytes;
+
+    public OpenSearchMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.bulkDocs = DistributionSummary.builder("book.index.bulk.docs")
+                .description("벌크 요청 1건의 액션 수")
+                .register(meterRegistry);
+        this.bulkBytes = DistributionSummary.builder("book.index.bulk.bytes")
+                .description("벌크 요청 1건의 추정 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * OpenSearch 호출
+     */
+    @FunctionalInterface
+    public interface OpenSearchCall<R> {
+        R execute() throws IOException;
+    }
+
+    /**
+     * OpenSearch 호출 왕복 시간 기록
+     *
+     * @param operation 호출 종류 (search, count, bulk 등)
+     * @param call      OpenSearch 호출
+     * @return 호출 결과
+     * @throws IOException 호출 실패 시 (실패도 기록된다)
+     */
+    public <R> R record(String operation, OpenSearchCall<R> call) throws IOException {
+        return record(operation, call, null);
+    }
+
+    /**
+     * OpenSearch 호출 왕복 시간과 응답의 took 기록
+     *
+     * @param operation 호출 종류 (search, count, bulk 등)
+     * @param call      OpenSearch 호출
+     * @param took      응답에서 took(ms)을 꺼내는 함수 (null이면 왕복 시간만 기록)
+     * @return 호출 결과
+     * @throws IOException 호출 실패 시 (실패도 기록된다)
+     */
+    public <R> R record(String operation, OpenSearchCall<R> call, ToLongFunction<R> took) throws IOException {
+        long start = System.nanoTime();
+        R result;
+        try {
+            result = call.execute();
+        } catch (IOException | RuntimeException e) {
+            recordError(operation, start, e);
+            throw e;
+        }
+        recordSuccess(operation, start, result, took);
+        return result;
+    }
+
+    /**
+     * 비동기 OpenSearch 호출 왕복 시간과 응답의 took 기록 (응답 완료 시점에 기록)
+     *
+     * @param operation 호출 종류 (search 등)
+     * @param call      비동기 OpenSearch 호출
+     * @param took      응답에서 took(ms)을 꺼내는 함수 (null이면 왕복 시간만 기록)
+     * @return 호출 결과 future (요청 전송 실패 시 실패한 future)
+     */
+    public <R> CompletableFuture<R> recordAsync(String operation, OpenSearchCall<CompletableFuture<R>> call,
+                                                ToLongFunction<R> took) {
+        long start = System.nanoTime();
+        CompletableFuture<R> future;
+        try {
+            future = call.execute();
+        } catch (IOException | RuntimeException e) {
+            recordError(operation, start, e);
+            return CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, error) -> {
+            if (error != null) {
+                recordError(operation, start, error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            } else {
+                recordSuccess(operation, start, result, took);
+            }
+        });
+    }
+
+    private void recordError(String operation, long startNanos, Throwable error) {
+        requestTimer(operation, ERROR, error.getClass().getSimpleName())
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private <R> void recordSuccess(String operation, long startNanos, R result, ToLongFunction<R> took) {
+        long roundTrip = System.nanoTime() - startNanos;
+        requestTimer(operation, SUCCESS, "none").record(roundTrip, TimeUnit.NANOSECONDS);
+
+        if (took != null) {
+            long tookNanos = TimeUnit.MILLISECONDS.toNanos(took.applyAsLong(result));
+            Timer.builder("book.opensearch.took")
+                    .description("OpenSearch가 보고한 처리 시간")
+                    .tag("operation", operation)
+                    .register(meterRegistry)
+                    .record(tookNanos, TimeUnit.NANOSECONDS);
+            Timer.builder("book.opensearch.overhead")
+                    .description("클라이언트 왕복 시간 중 OpenSearch 처리 외 시간 (직렬화, 네트워크, 대기)")
+                    .tag("operation", operation)
+                    .register(meterRegistry)
+                    .record(Math.max(0, roundTrip - tookNanos), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 검색 메서드 전체 시간 기록 (캐시 적중 포함)
+     *
+     * @param kind   검색 종류 (keyword, cursor, facet, count 등)
+     * @param search 검색
+     * @return 검색 결과
+     */
+    public <T> T timeSearch(String kind, Supplier<T> search) {
+        long start = System.nanoTime();
+        String outcome = ERROR;
+        try {
+            T result = search.get();
+            outcome = SUCCESS;
+            return result;
+        } finally {
+            Timer.builder("book.search")
+                    .description("도서 검색 시간 (캐시 적중 포함)")
+                    .tag("kind", kind)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 벌크 요청 1건의 크기 기록 (재시도 요청 포함)
+     *
+     * @param actions 액션 수
+     * @param bytes   추정 크기
+     */
+    public void recordBulkRequest(int actions, long bytes) {
+        bulkDocs.record(actions);
+        bulkBytes.record(bytes);
+    }
+
+    /**
+     * 벌크 응답의 문서 단위 실패 기록
+     *
+     * @param type OpenSearch 오류 유형
+     */
+    public void recordBulkItemFailure(String type) {
+        meterRegistry.counter("book.index.bulk.item.failures", "type", type != null ? type : "unknown").increment();
+    }
+
+    private Timer requestTimer(String operation, String outcome, String exception) {
+        return Timer.builder("book.opensearch.requests")
+                .description("OpenSearch 클라이언트 왕복 시간")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.booksearch.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록/검색 요청의 페이지 크기 정책
+ *
+ * 1 미만은 400으로 거절하고, book.search.max-page-size를 넘으면 최대값으로 줄인다
+ * 페이지 크기가 제한되므로 검색 결과 캐시 키도 크기별로 무한히 늘어나지 않는다
+ * 페이지 번호 방식은 from + size가 book.search.max-result-window(인덱스 max_result_window)를 넘으면 거절한다
+ */
+@Component
+public class PageSizePolicy {
+
+    private final int maxPageSize;
+    private final int maxResultWindow;
+
+    public PageSizePolicy(@Value("${book.search.max-page-size:100}") int maxPageSize,
+                          @Value("${book.search.max-result-window:10000}") int maxResultWindow) {
+        this.maxPageSize = maxPageSize;
+        this.maxResultWindow = maxResultWindow;
+    }
+
+    /**
+     * 요청 페이지 크기 검증
+     *
+     * @param size 요청 페이지 크기
+     * @return 최대값으로 제한한 페이지 크기
+     * @throws InvalidPageRequestException 1 미만일 경우
+     */
+    public int resolve(int size) {
+        if (size < 1) {
+            throw new InvalidPageRequestException("페이지 크기는 1 이상이어야 합니다. size=" + size);
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * 페이지 번호 요청 검증
+     *
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 요청 페이지 크기
+     * @return 페이지 요청 (크기는 최대값으로 제한)
+     * @throws InvalidPageRequestException 페이지 번호가 음수이거나 조회 범위가 max_result_window를 넘을 경우
+     */
+    public Pageable pageRequest(int page, int size) {
+        int resolved = resolve(size);
+        if (page < 0) {
+            throw new InvalidPageRequestException("페이지 번호는 0 이상이어야 합니다. page=" + page);
+        }
+        if ((long) page * resolved + resolved > maxResultWindow) {
+            throw new InvalidPageRequestException(
+                    "조회 범위가 최대 " + maxResultWindow + "건을 넘습니다. page=" + page + ", size=" + resolved);
+        }
+        return PageRequest.of(page, resolved);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.domain.BookDocument;
+import com.example.booksearch.dto.BookCursor;
+import com.example.booksearch.dto.BookSummary;
+import com.example.booksearch.dto.CursorPage;
+import com.example.booksearch.repository.BookRepository;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * PostgreSQL 검색 엔진 (OpenSearch 장애/지연 또는 인덱스 준비 전 fallback)
+ *
+ * 제목/저자/소개 부분 일치를 pg_trgm GIN 인덱스로 찾고, 관련도 대신 ID 역순 키셋으로 페이징한다
+ * 장애 상황에서 응답 시간을 일정하게 유지하도록 전체 건수는 세지 않는다 (totalElements -1)
+ * 커서는 DB 목록과 같은 ID 커서(BookCursor.ofId)를 사용한다
+ *
+ * 형태소 분석이 없으므로 OpenSearch보다 재현율과 정렬 품질이 낮다
+ * (2글자 이하 키워드는 트라이그램을 만들 수 없어 인덱스 전체를 훑는다)
+ *
+ * deadline은 읽기 전용 트랜잭션 안에서 SET LOCAL statement_timeout(밀리초)으로 걸어
+ * 남은 시간이 지나면 PostgreSQL이 쿼리를 취소한다 (트랜잭션이 끝나면 설정도 사라짐)
+ */
+@Component
+public class PostgresBookSearchEngine implements BookSearchEngine {
+
+    public static final String NAME = "postgres";
+
+    private final BookRepository bookRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public PostgresBookSearchEngine(BookRepository bookRepository, JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager) {
+        this.bookRepository = bookRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean supports(BookCursor cursor) {
+        return cursor.isIdCursor();
+    }
+
+    @Override
+    public CursorPage<BookDocument> searchBooks(String keyword, String cursor, int size, SearchDeadline deadline) {
+        return search(keyword, cursor, size, deadline, BookDocument::from);
+    }
+
+    @Override
+    public CursorPage<BookSummary> searchBookSummaries(String keyword, String cursor, int size,
+                                                       SearchDeadline deadline) {
+        return search(keyword, cursor, size, deadline, book -> new BookSummary(book.getId(), book.getTitle(),
+                book.getAuthor(), book.getPublisher(), book.getCategory(), book.getPrice()));
+    }
+
+    private <T> CursorPage<T> search(String keyword, String cursor, int size, SearchDeadline deadline,
+                                     Function<Book, T> mapper) {
+        BookCursor decoded = BookCursor.decode(cursor);
+        if (decoded != null && !decoded.isIdCursor()) {
+            throw new IllegalArgumentException("DB 검색 커서가 아닙니다. cursor=" + cursor);
+        }
+        long lastId = decoded != null ? decoded.lastId() : Long.MAX_VALUE;
+        deadline.check(NAME);
+
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        List<Book> rows;
+        try {
+            rows = readOnlyTransaction.execute(status -> {
+                // SET은 바인드 파라미터를 받지 않으므로 숫자 값을 직접 넣는다
+                jdbcTemplate.execute("SET LOCAL statement_timeout = " + Math.max(1, deadline.remainingMillis()));
+                return bookRepository.searchByKeyword(likePattern(keyword), lastId, Limit.of(size + 1));
+            });
+        } catch (QueryTimeoutException e) {
+            throw new SearchTimeoutException("검색 deadline 초과: " + NAME, e);
+        }
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows.stream().map(mapper).toList(), -1, false, null);
+        }
+        List<Book> content = rows.subList(0, size);
+        String nextCursor = BookCursor.ofId(content.get(size - 1).getId(), -1).encode();
+        return new CursorPage<>(content.stream().map(mapper).toList(), -1, false, nextCursor);
+    }
+
+    private static String likePattern(String keyword) {
+        String escaped = keyword.strip().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
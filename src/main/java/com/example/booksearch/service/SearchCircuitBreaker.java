@@ -0,0 +1,179 @@
+package com.example.booksearch.service;
+
+import java.time.Duration;
+
+/**
+ * 검색 엔진 서킷 브레이커 (호출 횟수 기반 슬라이딩 윈도우)
+ *
+ * 최근 windowSize건 중 실패율 또는 느린 호출 비율이 임계치 이상이면 OPEN으로 전환해
+ * openDuration 동안 호출을 막고, 이후 HALF_OPEN에서 한 건만 시험 호출해 결과로 CLOSED/OPEN을 정한다
+ * 판단은 최소 minimumCalls건이 쌓인 뒤부터 한다
+ *
+ * 상태 전환은 짧은 synchronized 구간에서만 일어나며, 실제 검색 호출은 락 밖에서 실행된다
+ */
+class SearchCircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long slowCallThresholdNanos;
+    private final int slowCallRateThreshold;
+    private final long openDurationNanos;
+
+    /** 최근 호출 결과 링 버퍼 (0: 성공, 1: 실패, 2: 느린 성공, 3: 느린 실패) */
+    private final byte[] outcomes;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    SearchCircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold,
+                         Duration slowCallThreshold, int slowCallRateThreshold, Duration openDuration) {
+        if (windowSize <= 0 || minimumCalls <= 0 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException(
+                    "서킷 브레이커 윈도우 설정이 올바르지 않습니다. windowSize=" + windowSize + ", minimumCalls=" + minimumCalls);
+        }
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallThresholdNanos = slowCallThreshold.toNanos();
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.outcomes = new byte[windowSize];
+    }
+
+    /**
+     * 호출 허용 여부
+     *
+     * OPEN 유지 시간이 지났으면 HALF_OPEN으로 바꾸고 시험 호출 한 건만 허용한다
+     *
+     * @return 호출해도 되면 true (true를 받은 호출자는 반드시 onSuccess/onError/onTimeout/release 중 하나를 호출해야 한다)
+     */
+    synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openedAt < openDurationNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            default:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    /**
+     * 호출 성공 기록 (elapsedNanos가 느린 호출 기준 이상이면 느린 호출로 함께 집계)
+     *
+     * @param elapsedNanos 호출 소요 시간
+     */
+    synchronized void onSuccess(long elapsedNanos) {
+        record(false, elapsedNanos >= slowCallThresholdNanos);
+    }
+
+    /**
+     * 호출 실패 기록
+     *
+     * @param elapsedNanos 호출 소요 시간
+     */
+    synchronized void onError(long elapsedNanos) {
+        record(true, elapsedNanos >= slowCallThresholdNanos);
+    }
+
+    /**
+     * deadline 초과 기록
+     *
+     * 호출자가 준 시간이 느린 호출 기준보다 짧았으면 엔진 상태를 판단할 수 없으므로 권한만 반납하고,
+     * 그 이상이었으면 실패가 아닌 느린 호출로 집계한다
+     *
+     * @param budgetNanos 호출 시작 시점에 남아 있던 deadline
+     */
+    synchronized void onTimeout(long budgetNanos) {
+        if (budgetNanos < slowCallThresholdNanos) {
+            release();
+            return;
+        }
+        record(false, true);
+    }
+
+    /**
+     * 결과를 집계하지 않고 호출 권한만 반납 (요청 오류처럼 엔진 상태와 무관한 실패)
+     */
+    synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failed, boolean slow) {
+        if (state == State.HALF_OPEN) {
+            // 시험 호출 결과로 바로 결정 (느린 성공도 아직 회복되지 않은 것으로 본다)
+            trialInFlight = false;
+            if (failed || slow) {
+                open();
+            } else {
+                reset();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // OPEN 전환 전에 출발한 호출의 늦은 결과는 무시
+            return;
+        }
+
+        if (recorded == windowSize) {
+            byte evicted = outcomes[next];
+            failures -= evicted & 1;
+            slowCalls -= (evicted >> 1) & 1;
+        } else {
+            recorded++;
+        }
+        outcomes[next] = (byte) ((failed ? 1 : 0) | (slow ? 2 : 0));
+        failures += failed ? 1 : 0;
+        slowCalls += slow ? 1 : 0;
+        next = (next + 1) % windowSize;
+
+        if (recorded >= minimumCalls
+                && (failures * 100 >= failureRateThreshold * recorded
+                || slowCalls * 100 >= slowCallRateThreshold * recorded)) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        clearWindow();
+    }
+
+    private void reset() {
+        state = State.CLOSED;
+        clearWindow();
+    }
+
+    private void clearWindow() {
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+}
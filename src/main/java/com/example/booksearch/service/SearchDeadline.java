@@ -0,0 +1,64 @@
+package com.example.booksearch.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 요청 deadline (System.nanoTime 기준 절대 시각)
+ *
+ * BookSearchRouter가 요청마다 만들어 엔진에 넘기며, PIT 생성/검색 등 여러 단계가 남은 시간을 나눠 쓴다
+ *
+ * @param deadlineNanos 만료 시각 (System.nanoTime 기준)
+ */
+public record SearchDeadline(long deadlineNanos) {
+
+    /**
+     * 지금부터 timeout 뒤에 만료되는 deadline 생성
+     *
+     * @param timeout 제한 시간
+     * @return deadline
+     */
+    public static SearchDeadline after(Duration timeout) {
+        return new SearchDeadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * 남은 시간 (만료됐으면 0)
+     *
+     * @return 남은 시간(ns)
+     */
+    public long remainingNanos() {
+        return Math.max(0, deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * 남은 시간 (ms 단위 올림, 만료됐으면 0)
+     *
+     * @return 남은 시간(ms)
+     */
+    public long remainingMillis() {
+        long remaining = remainingNanos();
+        return (remaining + TimeUnit.MILLISECONDS.toNanos(1) - 1) / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * 만료 여부
+     *
+     * @return 남은 시간이 없으면 true
+     */
+    public boolean isExpired() {
+        return remainingNanos() == 0;
+    }
+
+    /**
+     * 남은 시간 확인
+     *
+     * @param stage 진행 단계 (예외 메시지용)
+     * @throws SearchTimeoutException 이미 만료됐을 경우
+     */
+    public void check(String stage) {
+        if (isExpired()) {
+            throw new SearchTimeoutException("검색 deadline 초과: " + stage);
+        }
+    }
+}
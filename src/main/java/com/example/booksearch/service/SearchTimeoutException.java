@@ -0,0 +1,21 @@
+package com.example.booksearch.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 검색 요청이 deadline 안에 끝나지 않음 (API 응답은 504)
+ *
+ * 샤드 일부만 응답한 부분 결과는 예외가 아니라 CursorPage의 timedOut / failedShards로 전달된다
+ */
+@ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+public class SearchTimeoutException extends RuntimeException {
+
+    public SearchTimeoutException(String message) {
+        super(message);
+    }
+
+    public SearchTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.booksearch.service;
+
+import org.opensearch.client.opensearch.core.search.TrackHits;
+
+/**
+ * 검색 결과 전체 건수(track_total_hits) 계산 정책
+ *
+ * 넓은 키워드 검색에서 매칭 문서를 모두 세는 비용을 줄이기 위해 계산 방식을 선택한다
+ *
+ * @param mode      계산 방식
+ * @param threshold CAPPED 모드에서 정확히 셀 최대 건수
+ */
+public record TotalHitsPolicy(Mode mode, int threshold) {
+
+    /** 항상 정확히 세는 정책 */
+    public static final TotalHitsPolicy EXACT = new TotalHitsPolicy(Mode.EXACT, 0);
+
+    /**
+     * 전체 건수 계산 방식
+     */
+    public enum Mode {
+
+        /** 매칭 문서를 모두 세어 정확한 건수 반환 */
+        EXACT,
+
+        /** threshold까지만 세고, 초과 시 "threshold건 이상"으로 반환 */
+        CAPPED,
+
+        /** 세지 않고 한 건 더 조회하여 다음 페이지 존재 여부만 판단 */
+        DISABLED
+    }
+
+    /**
+     * 검색 요청에 지정할 track_total_hits 값
+     *
+     * @return track_total_hits 설정
+     */
+    public TrackHits trackHits() {
+        return switch (mode) {
+            case EXACT -> TrackHits.of(t -> t.enabled(true));
+            case CAPPED -> TrackHits.of(t -> t.count(threshold));
+            case DISABLED -> TrackHits.of(t -> t.enabled(false));
+        };
+    }
+
+    /**
+     * 페이지 크기에 대한 실제 조회 건수
+     *
+     * 전체 건수를 세지 않으면 한 건 더 읽어 다음 페이지 존재 여부를 판단한다
+     *
+     * @param pageSize 페이지 크기
+     * @return 조회 건수
+     */
+    public int fetchSize(int pageSize) {
+        return mode == Mode.DISABLED ? pageSize + 1 : pageSize;
+    }
+}
@@ -0,0 +1,22 @@
+-- 도서/Outbox ID 생성 방식 전환: IDENTITY → 시퀀스 (pooled-lo, 50개씩 할당)
+--
+-- 신규 DB: 테이블은 이후 Hibernate(ddl-auto=update)가 만들고, 여기서는 시퀀스만 생성한다
+-- 기존 DB: 컬럼의 IDENTITY를 제거하고 시퀀스를 현재 최대 ID 다음 값부터 시작하게 맞춘다
+-- pooled-lo는 nextval 값을 할당 구간의 시작으로 쓰므로 다음 nextval이 MAX(id) + 1을 반환하면 기존 ID와 겹치지 않는다
+
+CREATE SEQUENCE IF NOT EXISTS book_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS book_index_outbox_seq START WITH 1 INCREMENT BY 50;
+
+DO $$
+BEGIN
+    IF to_regclass('books') IS NOT NULL THEN
+        ALTER TABLE books ALTER COLUMN id DROP IDENTITY IF EXISTS;
+        PERFORM setval('book_seq', COALESCE((SELECT MAX(id) FROM books), 0) + 1, false);
+    END IF;
+
+    IF to_regclass('book_index_outbox') IS NOT NULL THEN
+        ALTER TABLE book_index_outbox ALTER COLUMN id DROP IDENTITY IF EXISTS;
+        PERFORM setval('book_index_outbox_seq', COALESCE((SELECT MAX(id) FROM book_index_outbox), 0) + 1, false);
+    END IF;
+END
+$$;
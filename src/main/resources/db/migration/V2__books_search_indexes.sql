@@ -0,0 +1,50 @@
+-- PostgreSQL 검색 엔진(PostgresBookSearchEngine)용 pg_trgm 인덱스
+--
+-- LOWER(title/author/description) LIKE '%키워드%' 검색을 GIN 트라이그램 인덱스로 처리한다
+-- 인덱스를 만들려면 테이블이 있어야 하므로, 신규 DB에서는 books 테이블을 엔티티 매핑과 같은 구조로 여기서 만든다
+-- (이후 Hibernate ddl-auto=update는 이미 있는 테이블로 보고 넘어간다)
+-- ISBN 유니크 제약은 엔티티와 같은 이름(uk_books_isbn)으로 맞춰 Hibernate가 중복 제약을 만들지 않게 한다
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE TABLE IF NOT EXISTS books (
+    id              BIGINT       NOT NULL PRIMARY KEY,
+    title           VARCHAR(255) NOT NULL,
+    author          VARCHAR(255) NOT NULL,
+    publisher       VARCHAR(255),
+    description     TEXT,
+    isbn            VARCHAR(255),
+    price           INTEGER,
+    published_date  DATE,
+    category        VARCHAR(255),
+    stock_quantity  INTEGER,
+    cover_image_url VARCHAR(255),
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6)
+);
+
+-- 기존 DB: Hibernate가 생성한 ISBN 유니크 제약 이름 변경, 신규 DB: 제약 생성
+DO $$
+DECLARE
+    existing TEXT;
+BEGIN
+    SELECT c.conname INTO existing
+    FROM pg_constraint c
+    JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+    WHERE c.conrelid = 'books'::regclass
+      AND c.contype = 'u'
+      AND array_length(c.conkey, 1) = 1
+      AND a.attname = 'isbn'
+    LIMIT 1;
+
+    IF existing IS NULL THEN
+        ALTER TABLE books ADD CONSTRAINT uk_books_isbn UNIQUE (isbn);
+    ELSIF existing <> 'uk_books_isbn' THEN
+        EXECUTE format('ALTER TABLE books RENAME CONSTRAINT %I TO uk_books_isbn', existing);
+    END IF;
+END
+$$;
+
+CREATE INDEX IF NOT EXISTS idx_books_title_trgm ON books USING gin (lower(title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_books_author_trgm ON books USING gin (lower(author) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_books_description_trgm ON books USING gin (lower(description) gin_trgm_ops);
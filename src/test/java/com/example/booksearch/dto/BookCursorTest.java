@@ -0,0 +1,78 @@
+package com.example.booksearch.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookCursorTest {
+
+    @Test
+    @DisplayName("DB 목록 커서는 인코딩 후 디코딩해도 같은 값이다")
+    void roundTripsIdCursor() {
+        BookCursor cursor = BookCursor.ofId(42L, 100);
+
+        BookCursor decoded = BookCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.isIdCursor()).isTrue();
+        assertThat(decoded.isSearchCursor()).isFalse();
+    }
+
+    @Test
+    @DisplayName("검색 커서는 PIT ID, sort 값, 전체 건수를 그대로 복원한다")
+    void roundTripsSearchCursor() {
+        BookCursor cursor = BookCursor.ofSearch("pit-id==", List.of("1.25", "42"), 10_000, false);
+
+        BookCursor decoded = BookCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.isSearchCursor()).isTrue();
+        assertThat(decoded.isIdCursor()).isFalse();
+    }
+
+    @Test
+    @DisplayName("PIT 없이 조회한 첫 페이지 커서도 검색 커서다")
+    void searchCursorWithoutPit() {
+        BookCursor cursor = BookCursor.ofSearch(null, List.of("1.25", "42"), 3, true);
+
+        BookCursor decoded = BookCursor.decode(cursor.encode());
+
+        assertThat(decoded.pitId()).isNull();
+        assertThat(decoded.isSearchCursor()).isTrue();
+        assertThat(decoded.isIdCursor()).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰은 패딩 없는 URL-safe Base64다")
+    void encodesUrlSafeToken() {
+        String token = BookCursor.ofSearch("a+b/c=", List.of("?&"), 1, true).encode();
+
+        assertThat(token).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    @DisplayName("null이나 빈 토큰은 첫 페이지로 본다")
+    void decodesBlankAsFirstPage() {
+        assertThat(BookCursor.decode(null)).isNull();
+        assertThat(BookCursor.decode("")).isNull();
+        assertThat(BookCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    @DisplayName("Base64가 아니거나 JSON이 아닌 토큰은 IllegalArgumentException으로 거절한다")
+    void rejectsMalformedToken() {
+        String notJson = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("not json".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> BookCursor.decode("%%%"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BookCursor.decode(notJson))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
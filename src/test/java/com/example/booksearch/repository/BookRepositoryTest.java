@@ -0,0 +1,89 @@
+package com.example.booksearch.repository;
+
+import com.example.booksearch.domain.Book;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Limit;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostgreSQL 검색 쿼리(searchByKeyword) 테스트
+ *
+ * Flyway 마이그레이션(pg_trgm 인덱스 포함)을 실제 PostgreSQL 컨테이너에 적용해 확인한다 (Docker 없으면 건너뜀)
+ * 패턴은 PostgresBookSearchEngine과 같은 규칙(소문자, \, %, _ 이스케이프)으로 만든다
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=update")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class BookRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    private Book percent;
+    private Book underscore;
+    private Book backslash;
+    private Book plain;
+
+    @BeforeEach
+    void setUp() {
+        percent = save("할인율 50% 자바", "9780000000001");
+        underscore = save("snake_case 입문", "9780000000002");
+        backslash = save("C:\\Books 경로", "9780000000003");
+        plain = save("5000원 snakeXcase 자바", "9780000000004");
+    }
+
+    private Book save(String title, String isbn) {
+        return bookRepository.save(Book.builder()
+                .title(title)
+                .author("저자")
+                .isbn(isbn)
+                .price(10000)
+                .stockQuantity(1)
+                .build());
+    }
+
+    private List<Book> search(String pattern) {
+        return bookRepository.searchByKeyword(pattern, Long.MAX_VALUE, Limit.of(10));
+    }
+
+    @Test
+    @DisplayName("이스케이프한 %는 와일드카드가 아닌 문자로 일치한다")
+    void matchesEscapedPercent() {
+        assertThat(search("%50\\%%")).containsExactly(percent);
+    }
+
+    @Test
+    @DisplayName("이스케이프한 _는 임의의 한 글자가 아닌 문자로 일치한다")
+    void matchesEscapedUnderscore() {
+        assertThat(search("%snake\\_case%")).containsExactly(underscore);
+    }
+
+    @Test
+    @DisplayName("이스케이프한 \\는 문자 그대로 일치한다")
+    void matchesEscapedBackslash() {
+        assertThat(search("%c:\\\\books%")).containsExactly(backslash);
+    }
+
+    @Test
+    @DisplayName("ID 역순으로 정렬하고 커서 ID 미만만 조회한다")
+    void pagesByDescendingId() {
+        assertThat(search("%자바%")).containsExactly(plain, percent);
+        assertThat(bookRepository.searchByKeyword("%자바%", plain.getId(), Limit.of(10))).containsExactly(percent);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.BookDocument;
+import com.example.booksearch.dto.BulkIndexResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.ErrorCause;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.opensearch.core.bulk.OperationType;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookBulkIndexerTest {
+
+    private final OpenSearchClient client = mock(OpenSearchClient.class);
+    private BookBulkIndexer indexer;
+
+    @BeforeEach
+    void setUp() {
+        ElasticsearchOperations operations = mock(ElasticsearchOperations.class);
+        ElasticsearchConverter converter = mock(ElasticsearchConverter.class);
+        when(operations.getElasticsearchConverter()).thenReturn(converter);
+        when(converter.mapObject(any())).thenAnswer(invocation -> Document.create());
+
+        // 요청당 최대 2건, 재시도 2회, 워커 대신 호출자 스레드에서 바로 전송
+        indexer = new BookBulkIndexer(client, operations, Runnable::run, new OpenSearchMetrics(new SimpleMeterRegistry()),
+                5 * 1024 * 1024, 2, 2, 2, 1, 100);
+    }
+
+    private static BookDocument document(long id) {
+        return BookDocument.builder().id(id).title("도서 " + id).build();
+    }
+
+    private static BulkResponseItem item(String id, int status, String errorType) {
+        return BulkResponseItem.of(i -> {
+            i.operationType(OperationType.Index).index("books").id(id).status(status);
+            if (errorType != null) {
+                i.error(ErrorCause.of(e -> e.type(errorType).reason(errorType + " on " + id)));
+            }
+            return i;
+        });
+    }
+
+    private static BulkResponse response(BulkResponseItem... items) {
+        boolean errors = Arrays.stream(items).anyMatch(item -> item.error() != null);
+        return BulkResponse.of(r -> r.errors(errors).took(1).items(List.of(items)));
+    }
+
+    @Test
+    @DisplayName("최대 액션 수를 넘으면 벌크 요청을 나눠 보낸다")
+    void splitsRequestsByActionCount() throws IOException {
+        when(client.bulk(any(BulkRequest.class))).thenReturn(response(item("1", 201, null), item("2", 201, null)));
+
+        BookBulkIndexer.Session session = indexer.open("books");
+        session.index(document(1));
+        session.index(document(2));
+        session.index(document(3));
+        BulkIndexResult result = session.finish();
+
+        verify(client, times(2)).bulk(any(BulkRequest.class));
+        assertThat(result.succeeded()).isEqualTo(3);
+        assertThat(result.failed()).isZero();
+    }
+
+    @Test
+    @DisplayName("429로 거절된 문서만 골라 다시 보낸다")
+    void retriesOnlyRejectedItems() throws IOException {
+        when(client.bulk(any(BulkRequest.class)))
+                .thenReturn(response(item("1", 201, null), item("2", 429, "es_rejected_execution_exception")))
+                .thenReturn(response(item("2", 201, null)));
+
+        BookBulkIndexer.Session session = indexer.open("books");
+        session.index(document(1));
+        session.index(document(2));
+        BulkIndexResult result = session.finish();
+
+        ArgumentCaptor<BulkRequest> requests = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(2)).bulk(requests.capture());
+        assertThat(requests.getAllValues().get(1).operations()).hasSize(1);
+        assertThat(result.succeeded()).isEqualTo(2);
+        assertThat(result.failed()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 대상이 아닌 문서 실패는 재전송 없이 결과에 기록한다")
+    void reportsNonRetryableFailures() throws IOException {
+        when(client.bulk(any(BulkRequest.class)))
+                .thenReturn(response(item("1", 201, null), item("2", 400, "mapper_parsing_exception")));
+
+        BookBulkIndexer.Session session = indexer.open("books");
+        session.index(document(1));
+        session.index(document(2));
+        BulkIndexResult result = session.finish();
+
+        verify(client, times(1)).bulk(any(BulkRequest.class));
+        assertThat(result.succeeded()).isEqualTo(1);
+        assertThat(result.failures()).singleElement()
+                .satisfies(failure -> {
+                    assertThat(failure.id()).isEqualTo("2");
+                    assertThat(failure.status()).isEqualTo(400);
+                    assertThat(failure.type()).isEqualTo("mapper_parsing_exception");
+                });
+    }
+
+    @Test
+    @DisplayName("요청 자체가 재시도 한도까지 실패하면 요청의 모든 문서를 실패로 기록한다")
+    void failsWholeRequestAfterRetries() throws IOException {
+        when(client.bulk(any(BulkRequest.class))).thenThrow(new IOException("connection refused"));
+
+        BookBulkIndexer.Session session = indexer.open("books");
+        session.index(document(1));
+        session.delete(2L);
+        BulkIndexResult result = session.finish();
+
+        verify(client, times(3)).bulk(any(BulkRequest.class));
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.failures()).extracting(BulkIndexResult.ItemFailure::status).containsOnly(0);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.dto.BookImportResult;
+import com.example.booksearch.dto.BulkIndexResult;
+import com.example.booksearch.repository.BookIndexOutboxRepository;
+import com.example.booksearch.repository.BookRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookImportServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final BookRepository bookRepository = mock(BookRepository.class);
+    private final BookIndexOutboxRepository outboxRepository = mock(BookIndexOutboxRepository.class);
+    private final BookBulkIndexer bulkIndexer = mock(BookBulkIndexer.class);
+    private final BookBulkIndexer.Session session = mock(BookBulkIndexer.Session.class);
+    private final BookSearchCache searchCache = mock(BookSearchCache.class);
+    private final BookEntityCache entityCache = mock(BookEntityCache.class);
+
+    private BookImportService service;
+
+    @BeforeEach
+    void setUp() {
+        when(bulkIndexer.open(BookIndexService.INDEX_NAME)).thenReturn(session);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any())).thenReturn(List.of(1L));
+        when(bookRepository.findByIsbnIn(anyCollection())).thenReturn(List.of(Book.builder()
+                .title("자바")
+                .author("김자바")
+                .isbn("978-1")
+                .build()));
+        when(session.finish()).thenReturn(new BulkIndexResult(1, 1,
+                List.of(new BulkIndexResult.ItemFailure("7", 400, "mapper_parsing_exception", "bad"))));
+
+        // 배치 크기 1: 행마다 upsert + 인덱싱 세션 전달
+        service = new BookImportService(jdbcTemplate, mock(PlatformTransactionManager.class), bookRepository,
+                outboxRepository, bulkIndexer, mock(BookIndexService.class), searchCache, entityCache,
+                new ObjectMapper().findAndRegisterModules(), 1, 100);
+    }
+
+    private static InputStream json(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("입력 중간에 구조가 깨져도 이미 저장한 배치의 인덱싱을 마치고 실패 문서를 Outbox에 등록한다")
+    void finishesSessionWhenInputBreaksMidway() {
+        InputStream input = json("""
+                [
+                  {"title": "자바", "author": "김자바", "isbn": "978-1"},
+                  {"title": "스프링", "author": "이스프링", "isbn": "978-2"},
+                  {"title": "깨진 행" "author": "박", "isbn": "978-3"}
+                ]
+                """);
+
+        assertThatThrownBy(() -> service.importCatalogue(input, BookImportService.Format.JSON))
+                .isInstanceOf(UncheckedIOException.class);
+
+        verify(session, times(2)).index(any());
+        verify(session, times(1)).finish();
+        verify(outboxRepository).saveAll(anyList());
+        verify(searchCache).invalidateAll();
+        verify(entityCache).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 행은 건너뛰고 사유를 남긴 채 나머지 행을 계속 가져온다")
+    void skipsInvalidRows() {
+        InputStream input = json("""
+                [
+                  {"author": "김자바", "isbn": "978-1"},
+                  {"title": "스프링", "author": "이스프링", "isbn": "978-2"}
+                ]
+                """);
+
+        BookImportResult result = service.importCatalogue(input, BookImportService.Format.JSON);
+
+        assertThat(result.read()).isEqualTo(2);
+        assertThat(result.upserted()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(1);
+        assertThat(result.rejections()).extracting(BookImportResult.Rejection::reason).containsExactly("title 누락");
+        verify(session, times(1)).finish();
+        verify(outboxRepository).saveAll(anyList());
+    }
+}
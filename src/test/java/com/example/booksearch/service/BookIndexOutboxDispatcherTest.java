@@ -0,0 +1,110 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.domain.BookIndexOutbox;
+import com.example.booksearch.dto.BulkIndexResult;
+import com.example.booksearch.repository.BookIndexOutboxRepository;
+import com.example.booksearch.repository.BookRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookIndexOutboxDispatcherTest {
+
+    private final BookIndexOutboxRepository outboxRepository = mock(BookIndexOutboxRepository.class);
+    private final BookRepository bookRepository = mock(BookRepository.class);
+    private final BookIndexService bookIndexService = mock(BookIndexService.class);
+    private final IndexBootstrapStatus bootstrapStatus = new IndexBootstrapStatus(true);
+
+    private final BookIndexOutboxDispatcher dispatcher = new BookIndexOutboxDispatcher(outboxRepository,
+            bookRepository, bookIndexService, mock(BookSearchCache.class), bootstrapStatus,
+            new SimpleMeterRegistry(), 500, 3, Duration.ofSeconds(1), Duration.ofMinutes(10));
+
+    @Test
+    @DisplayName("bootstrap 진행 중에는 Outbox를 읽지 않는다")
+    void waitsWhileIndexing() {
+        dispatcher.dispatch();
+
+        verify(outboxRepository, never()).findNextBatch(any(), any());
+    }
+
+    @Test
+    @DisplayName("bootstrap이 실패해도 alias가 있으면 계속 반영한다")
+    void dispatchesAfterFailedBootstrapWhenAliasExists() {
+        bootstrapStatus.markFailed(new IllegalStateException("sync failed"));
+        when(bookIndexService.indexExists()).thenReturn(true);
+
+        dispatcher.dispatch();
+
+        verify(outboxRepository).findNextBatch(any(), any());
+    }
+
+    @Test
+    @DisplayName("bootstrap이 실패하고 alias도 없으면 인덱스 자동 생성을 막기 위해 대기한다")
+    void waitsAfterFailedBootstrapWithoutAlias() {
+        bootstrapStatus.markFailed(new IllegalStateException("create failed"));
+        when(bookIndexService.indexExists()).thenReturn(false);
+
+        dispatcher.dispatch();
+
+        verify(outboxRepository, never()).findNextBatch(any(), any());
+    }
+
+    private static Book book(long id) {
+        Book book = mock(Book.class);
+        when(book.getId()).thenReturn(id);
+        return book;
+    }
+
+    @Test
+    @DisplayName("같은 도서의 여러 변경은 마지막 작업만 반영하고, DB에서 사라진 도서는 삭제로 바꾼다")
+    void mergesOperationsPerBook() {
+        bootstrapStatus.markReady();
+        List<BookIndexOutbox> batch = List.of(BookIndexOutbox.index(1L), BookIndexOutbox.delete(1L),
+                BookIndexOutbox.index(2L), BookIndexOutbox.index(3L));
+        Book book2 = book(2L);
+        when(outboxRepository.findNextBatch(any(), any())).thenReturn(batch);
+        when(bookRepository.findAllById(any())).thenReturn(List.of(book2));
+        when(bookIndexService.syncBooks(any(), any())).thenReturn(new BulkIndexResult(2, 0, List.of()));
+
+        dispatcher.dispatch();
+
+        verify(bookIndexService).syncBooks(eq(List.of(book2)),
+                argThat((Collection<Long> ids) -> ids.size() == 2 && ids.containsAll(List.of(1L, 3L))));
+        verify(outboxRepository).deleteAllInBatch(batch);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 도서의 레코드만 남기고 시도 횟수를 올린다")
+    void keepsOnlyFailedEntries() {
+        bootstrapStatus.markReady();
+        BookIndexOutbox succeeded = BookIndexOutbox.index(1L);
+        BookIndexOutbox failed = BookIndexOutbox.index(2L);
+        List<Book> books = List.of(book(1L), book(2L));
+        when(outboxRepository.findNextBatch(any(), any())).thenReturn(List.of(succeeded, failed));
+        when(bookRepository.findAllById(any())).thenReturn(books);
+        when(bookIndexService.syncBooks(any(), any())).thenReturn(new BulkIndexResult(1, 1,
+                List.of(new BulkIndexResult.ItemFailure("2", 400, "mapper_parsing_exception", "bad date"))));
+
+        dispatcher.dispatch();
+
+        verify(outboxRepository).deleteAllInBatch(List.of(succeeded));
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).isEqualTo("mapper_parsing_exception: bad date");
+        assertThat(failed.getNextAttemptAt()).isNotNull();
+        assertThat(failed.getParkedAt()).isNull();
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.booksearch.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookSearchCacheTest {
+
+    private static BookSearchCache cache(boolean enabled) {
+        return new BookSearchCache(new SimpleMeterRegistry(), enabled, 1000, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("키워드는 앞뒤 공백 제거, 연속 공백 축약, 소문자로 정규화된다")
+    void normalizesKeyword() {
+        assertThat(BookSearchCache.Key.of("cursor", "  Spring   Boot\t", 10))
+                .isEqualTo(BookSearchCache.Key.of("cursor", "spring boot", 10));
+        assertThat(BookSearchCache.Key.of("count", null).keyword()).isEmpty();
+        assertThat(BookSearchCache.Key.of("count", "   ").keyword()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 종류나 나머지 조건이 다르면 다른 키다")
+    void distinguishesKindAndParams() {
+        assertThat(BookSearchCache.Key.of("cursor", "java", 10))
+                .isNotEqualTo(BookSearchCache.Key.of("cursor", "java", 20))
+                .isNotEqualTo(BookSearchCache.Key.of("cursor-summary", "java", 10));
+    }
+
+    @Test
+    @DisplayName("같은 키는 한 번만 적재한다")
+    void cachesResult() {
+        BookSearchCache cache = cache(true);
+        AtomicInteger loads = new AtomicInteger();
+        BookSearchCache.Key key = BookSearchCache.Key.of("count", "java");
+
+        cache.get(key, loads::incrementAndGet);
+        Integer second = cache.get(key, loads::incrementAndGet);
+
+        assertThat(second).isEqualTo(1);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("cacheable을 만족하지 않는 결과는 반환만 하고 캐시에 남기지 않는다")
+    void skipsUncacheableResult() {
+        BookSearchCache cache = cache(true);
+        AtomicInteger loads = new AtomicInteger();
+        BookSearchCache.Key key = BookSearchCache.Key.of("cursor", "java", 10);
+
+        SearchDeadline deadline = SearchDeadline.after(Duration.ofMinutes(1));
+
+        Integer first = cache.get(key, loads::incrementAndGet, result -> false, deadline);
+        Integer second = cache.get(key, loads::incrementAndGet, result -> true, deadline);
+        Integer third = cache.get(key, loads::incrementAndGet, result -> true, deadline);
+
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(2);
+        assertThat(third).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 요청이 적재 중인 키는 자기 deadline까지만 기다리고, 진행 중인 적재는 그대로 끝난다")
+    void waiterHonoursOwnDeadline() throws Exception {
+        BookSearchCache cache = cache(true);
+        BookSearchCache.Key key = BookSearchCache.Key.of("cursor", "java", 10);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Integer> owner = CompletableFuture.supplyAsync(() ->
+                cache.get(key, () -> {
+                    loading.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return 1;
+                }, result -> true, SearchDeadline.after(Duration.ofMinutes(1))));
+        assertThat(loading.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> cache.get(key, () -> 2, result -> true, SearchDeadline.after(Duration.ofMillis(50))))
+                .isInstanceOf(SearchTimeoutException.class);
+
+        release.countDown();
+        assertThat(owner.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(cache.get(key, () -> 3, result -> true, SearchDeadline.after(Duration.ofMinutes(1)))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("invalidateAll 후에는 다시 적재한다")
+    void reloadsAfterInvalidateAll() {
+        BookSearchCache cache = cache(true);
+        AtomicInteger loads = new AtomicInteger();
+        BookSearchCache.Key key = BookSearchCache.Key.of("count", "java");
+
+        cache.get(key, loads::incrementAndGet);
+        cache.invalidateAll();
+        cache.get(key, loads::incrementAndGet);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 매번 적재한다")
+    void bypassesWhenDisabled() {
+        BookSearchCache cache = cache(false);
+        AtomicInteger loads = new AtomicInteger();
+        BookSearchCache.Key key = BookSearchCache.Key.of("count", "java");
+
+        cache.get(key, loads::incrementAndGet);
+        cache.get(key, loads::incrementAndGet);
+
+        assertThat(loads).hasValue(2);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.booksearch.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookSearchRouterTest {
+
+    private static final Duration SLOW_CALL_THRESHOLD = Duration.ofMillis(100);
+
+    private final BookSearchEngine primary = mock(BookSearchEngine.class);
+    private final BookSearchEngine fallback = mock(BookSearchEngine.class);
+    private final IndexBootstrapStatus bootstrapStatus = new IndexBootstrapStatus(true);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BookSearchRouter router;
+
+    @BeforeEach
+    void setUp() {
+        when(primary.name()).thenReturn("opensearch");
+        when(fallback.name()).thenReturn("postgres");
+        bootstrapStatus.markReady();
+
+        // 한 건만 집계돼도 실패율/느린 호출 비율로 OPEN
+        router = new BookSearchRouter(List.of(primary, fallback), bootstrapStatus, meterRegistry,
+                "opensearch", "postgres", true, 1, 1, 50, SLOW_CALL_THRESHOLD, 50, Duration.ofMinutes(1),
+                Duration.ofSeconds(2), Duration.ofSeconds(10));
+    }
+
+    /** primary가 deadline을 다 쓰고 SearchTimeoutException을 던지게 한다 */
+    private void primaryTimesOut() {
+        when(primary.searchBooks(any(), any(), anyInt(), any())).thenAnswer(invocation -> {
+            SearchDeadline deadline = invocation.getArgument(3);
+            Thread.sleep(deadline.remainingMillis() + 5);
+            throw new SearchTimeoutException("검색 deadline 초과: search");
+        });
+    }
+
+    private double circuitState() {
+        return meterRegistry.get("book.search.circuit.state").gauge().value();
+    }
+
+    private double served(String engine, String reason) {
+        return meterRegistry.counter("book.search.engine", "engine", engine, "reason", reason).count();
+    }
+
+    @Test
+    @DisplayName("느린 호출 기준보다 짧은 요청 timeout 초과는 서킷에 집계하지 않는다")
+    void shortTimeoutDoesNotCountAgainstCircuit() {
+        primaryTimesOut();
+
+        assertThatThrownBy(() -> router.searchBooks("java", null, 10, Duration.ofMillis(20)))
+                .isInstanceOf(SearchTimeoutException.class);
+
+        assertThat(circuitState()).isZero();
+        assertThat(served("opensearch", "timeout")).isEqualTo(1);
+        verify(fallback, never()).searchBooks(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("느린 호출 기준 이상의 요청 timeout 초과는 느린 호출로 집계한다")
+    void longTimeoutCountsAsSlowCall() {
+        primaryTimesOut();
+
+        assertThatThrownBy(() -> router.searchBooks("java", null, 10, SLOW_CALL_THRESHOLD.multipliedBy(2)))
+                .isInstanceOf(SearchTimeoutException.class);
+
+        assertThat(circuitState()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("deadline이 남은 primary 실패는 fallback으로 처리하고 실패로 집계한다")
+    void failsOverOnError() {
+        when(primary.searchBooks(any(), any(), anyInt(), any())).thenThrow(new IllegalStateException("down"));
+
+        router.searchBooks("java", null, 10, Duration.ofSeconds(1));
+
+        verify(fallback).searchBooks(eq("java"), any(), eq(10), any());
+        assertThat(served("postgres", "error")).isEqualTo(1);
+        assertThat(circuitState()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("서킷이 열려 있으면 primary를 호출하지 않고 fallback으로 처리한다")
+    void routesToFallbackWhileCircuitOpen() {
+        when(primary.searchBooks(any(), any(), anyInt(), any())).thenThrow(new IllegalStateException("down"));
+        router.searchBooks("java", null, 10, Duration.ofSeconds(1));
+
+        router.searchBooks("java", null, 10, Duration.ofSeconds(1));
+
+        verify(primary, times(1)).searchBooks(any(), any(), anyInt(), any());
+        assertThat(served("postgres", "circuit-open")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 오류는 fallback 없이 그대로 던지고 서킷에 집계하지 않는다")
+    void rethrowsRequestErrors() {
+        when(primary.searchBooks(any(), any(), anyInt(), any())).thenThrow(new IllegalArgumentException("bad"));
+
+        assertThatThrownBy(() -> router.searchBooks("java", null, 10, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(circuitState()).isZero();
+        verify(fallback, never()).searchBooks(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Error는 그대로 던지되 서킷에는 실패로 기록한다")
+    void recordsErrorsBeforeRethrowing() {
+        when(primary.searchBooks(any(), any(), anyInt(), any())).thenThrow(new StackOverflowError());
+
+        assertThatThrownBy(() -> router.searchBooks("java", null, 10, Duration.ofSeconds(1)))
+                .isInstanceOf(StackOverflowError.class);
+
+        assertThat(circuitState()).isEqualTo(2);
+        verify(fallback, never()).searchBooks(any(), any(), anyInt(), any());
+    }
+}
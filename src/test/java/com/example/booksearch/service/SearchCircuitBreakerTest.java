@@ -0,0 +1,151 @@
+package com.example.booksearch.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchCircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+    private static SearchCircuitBreaker breaker(int windowSize, int minimumCalls, Duration openDuration) {
+        return new SearchCircuitBreaker(windowSize, minimumCalls, 50, Duration.ofSeconds(1), 50, openDuration);
+    }
+
+    /** CLOSED → OPEN → (openDuration 0) HALF_OPEN 시험 호출 획득까지 진행 */
+    private static SearchCircuitBreaker halfOpen() {
+        SearchCircuitBreaker breaker = breaker(4, 2, Duration.ZERO);
+        breaker.onError(FAST);
+        breaker.onError(FAST);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.state()).isEqualTo(SearchCircuitBreaker.State.HALF_OPEN);
+        return breaker;
+    }
+
+    @Test
+    @DisplayName("최소 호출 수가 쌓이기 전에는 실패율과 무관하게 CLOSED를 유지한다")
+    void staysClosedUntilMinimumCalls() {
+        SearchCircuitBreaker breaker = breaker(10, 4, Duration.ofMinutes(1));
+
+        breaker.onError(FAST);
+        breaker.onError(FAST);
+        breaker.onError(FAST);
+
+        assertThat(breaker.state()).isEqualTo(SearchCircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치에 도달하면 OPEN으로 전환하고 유지 시간 동안 호출을 막는다")
+    void opensOnFailureRate() {
+        SearchCircuitBreaker breaker = breaker(10, 4, Duration.ofMinutes(1));
+
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+        breaker.onError(FAST);
+        assertThat(breaker.state()).isEqualTo(SearchCircuitBreaker.State.CLOSED);
+        breaker.onError(FAST);
+
+        assertThat(breaker.state()).isEqualTo(SearchCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("느린 성공도 느린 호출 비율로 집계되어 OPEN으로 전환한다")
+    void opensOnSlowCallRate() {
+        SearchCircuitBreaker breaker = breaker(10, 4, Duration.ofMinutes(1));
+
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(SLOW);
+        breaker.onSuccess(SLOW);
+
+        assertThat(breaker.state()).isEqualTo(SearchCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 오래된 결과는 비율 계산에서 빠진다")
+    void evictsOldOutcomes() {
+        SearchCircuitBreaker breaker = breaker(4, 4, Duration.ofMinutes(1));
+
+        breaker.onError(FAST);
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+        breaker.onError(FAST);
+        assertThat(breaker.state()).isEqualTo(SearchCircuitBreaker.State.CLOSED);
+
+        // 누적이면 3/7이지만 최근 4건 기준으로는 2/4
+        breaker.onError(FAST);
+        assertThat(breaker.state()).isEqualTo(SearchCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN에서는 시험 호출 한 건만 허용한다")
+    void allowsSingleTrialWhenHalfOpen() {
+        SearchCircuitBreaker breaker = halfOpen();
+
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 성공하면 CLOSED로 돌아간다")
+    void closesAfterSuccessfulTrial() {
+        SearchCircuitBreaker breaker = halfOpen();
+
+        breaker.onSuccess(FAST);
+
+        assertThat(breaker.state()).isEqualTo(SearchCircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하거나 느리면 다시 OPEN으로 전환한다")
+    void reopensAfterFailedOrSlowTrial() {
+        SearchCircuitBreaker failed = halfOpen();
+        failed.onError(FAST);
+        assertThat(failed.state()).isEqualTo(SearchCircuitBreaker.State.OPEN);
+
+        SearchCircuitBreaker slow = halfOpen();
+        slow.onSuccess(SLOW);
+        assertThat(slow.state()).isEqualTo(SearchCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("release는 결과를 집계하지 않고 시험 호출 권한만 반납한다")
+    void releaseReturnsTrialPermit() {
+        SearchCircuitBreaker breaker = halfOpen();
+
+        breaker.release();
+
+        assertThat(breaker.state()).isEqualTo(SearchCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("느린 호출 기준보다 짧은 deadline의 초과는 집계하지 않고, 그 이상이면 느린 호출로 집계한다")
+    void classifiesTimeoutByBudget() {
+        SearchCircuitBreaker breaker = breaker(2, 2, Duration.ofMinutes(1));
+
+        breaker.onTimeout(Duration.ofMillis(100).toNanos());
+        breaker.onTimeout(Duration.ofMillis(100).toNanos());
+        assertThat(breaker.state()).isEqualTo(SearchCircuitBreaker.State.CLOSED);
+
+        breaker.onTimeout(SLOW);
+        breaker.onTimeout(SLOW);
+        assertThat(breaker.state()).isEqualTo(SearchCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수가 윈도우 크기보다 크면 생성할 수 없다")
+    void rejectsInvalidWindow() {
+        assertThatThrownBy(() -> breaker(4, 5, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
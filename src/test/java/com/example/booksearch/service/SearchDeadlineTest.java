@@ -0,0 +1,45 @@
+package com.example.booksearch.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchDeadlineTest {
+
+    @Test
+    @DisplayName("만료 전에는 남은 시간이 제한 시간 이하의 양수다")
+    void reportsRemainingTime() {
+        SearchDeadline deadline = SearchDeadline.after(Duration.ofMinutes(1));
+
+        assertThat(deadline.isExpired()).isFalse();
+        assertThat(deadline.remainingMillis()).isPositive().isLessThanOrEqualTo(60_000);
+        assertThat(deadline.remainingNanos()).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(1).toNanos());
+        assertThatCode(() -> deadline.check("search")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("1ms 미만이 남아도 밀리초 단위로는 1ms로 올림한다")
+    void roundsRemainingMillisUp() {
+        SearchDeadline deadline = new SearchDeadline(System.nanoTime() + Duration.ofMinutes(1).toNanos() + 1);
+
+        assertThat(deadline.remainingMillis() * 1_000_000).isGreaterThanOrEqualTo(deadline.remainingNanos());
+    }
+
+    @Test
+    @DisplayName("만료되면 남은 시간은 0이고 check는 SearchTimeoutException을 던진다")
+    void expires() {
+        SearchDeadline deadline = new SearchDeadline(System.nanoTime() - 1);
+
+        assertThat(deadline.isExpired()).isTrue();
+        assertThat(deadline.remainingNanos()).isZero();
+        assertThat(deadline.remainingMillis()).isZero();
+        assertThatThrownBy(() -> deadline.check("create_pit"))
+                .isInstanceOf(SearchTimeoutException.class)
+                .hasMessageContaining("create_pit");
+    }
+}
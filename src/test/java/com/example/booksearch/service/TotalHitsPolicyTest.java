@@ -0,0 +1,44 @@
+package com.example.booksearch.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.opensearch.core.search.TrackHits;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TotalHitsPolicyTest {
+
+    @Test
+    @DisplayName("EXACT는 track_total_hits=true로 정확히 센다")
+    void exact() {
+        TrackHits trackHits = TotalHitsPolicy.EXACT.trackHits();
+
+        assertThat(trackHits.isEnabled()).isTrue();
+        assertThat(trackHits.enabled()).isTrue();
+        assertThat(TotalHitsPolicy.EXACT.fetchSize(10)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("CAPPED는 threshold까지만 센다")
+    void capped() {
+        TotalHitsPolicy policy = new TotalHitsPolicy(TotalHitsPolicy.Mode.CAPPED, 10_000);
+
+        TrackHits trackHits = policy.trackHits();
+
+        assertThat(trackHits.isCount()).isTrue();
+        assertThat(trackHits.count()).isEqualTo(10_000);
+        assertThat(policy.fetchSize(10)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("DISABLED는 세지 않고 다음 페이지 판단용으로 한 건 더 조회한다")
+    void disabled() {
+        TotalHitsPolicy policy = new TotalHitsPolicy(TotalHitsPolicy.Mode.DISABLED, 0);
+
+        TrackHits trackHits = policy.trackHits();
+
+        assertThat(trackHits.isEnabled()).isTrue();
+        assertThat(trackHits.enabled()).isFalse();
+        assertThat(policy.fetchSize(10)).isEqualTo(11);
+    }
+}